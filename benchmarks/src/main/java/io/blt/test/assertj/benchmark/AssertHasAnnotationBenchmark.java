@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Missing;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.TypeUse;
+
+/**
+ * Measures the throughput of each {@code assertHasAnnotation} overload against raw {@code getAnnotation} calls.
+ * <p>
+ * Run with {@code -prof gc} to also report the allocation rate of each benchmark.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertHasAnnotationBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int annotationCount;
+
+    private Class<?> clazz;
+    private Method method;
+    private Field field;
+    private Field typeUseField;
+    private Class<? extends Annotation> present;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        clazz = Class.forName(AnnotatedFixtures.class.getName() + "$Annotated" + annotationCount);
+        method = clazz.getMethod("method");
+        field = clazz.getField("field");
+        typeUseField = clazz.getField("typeUseField");
+        present = Class.forName(String.format("%s$A%02d", AnnotatedFixtures.class.getName(), annotationCount))
+                       .asSubclass(Annotation.class);
+    }
+
+    @Benchmark
+    public Object classHit() {
+        return assertHasAnnotation(clazz, present);
+    }
+
+    @Benchmark
+    public Object classMiss() {
+        return missing(() -> assertHasAnnotation(clazz, Missing.class));
+    }
+
+    @Benchmark
+    public Object classBaseline() {
+        return clazz.getAnnotation(present);
+    }
+
+    @Benchmark
+    public Object methodHit() {
+        return assertHasAnnotation(method, present);
+    }
+
+    @Benchmark
+    public Object methodMiss() {
+        return missing(() -> assertHasAnnotation(method, Missing.class));
+    }
+
+    @Benchmark
+    public Object methodBaseline() {
+        return method.getAnnotation(present);
+    }
+
+    @Benchmark
+    public Object fieldHit() {
+        return assertHasAnnotation(field, present);
+    }
+
+    @Benchmark
+    public Object fieldMiss() {
+        return missing(() -> assertHasAnnotation(field, Missing.class));
+    }
+
+    @Benchmark
+    public Object fieldBaseline() {
+        return field.getAnnotation(present);
+    }
+
+    @Benchmark
+    public Object typeUseFieldHit() {
+        return assertHasAnnotation(typeUseField, TypeUse.class);
+    }
+
+    @Benchmark
+    public Object typeUseFieldMiss() {
+        return missing(() -> assertHasAnnotation(typeUseField, Missing.class));
+    }
+
+    @Benchmark
+    public Object typeUseFieldBaseline() {
+        return typeUseField.getAnnotatedType().getAnnotation(TypeUse.class);
+    }
+
+    private static Object missing(Runnable assertion) {
+        try {
+            assertion.run();
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected assertion to fail");
+    }
+
+}
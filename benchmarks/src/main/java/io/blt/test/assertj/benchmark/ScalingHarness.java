@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.benchmark;
+
+import io.blt.test.assertj.ClassFile;
+import io.blt.test.assertj.SearchOption;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasRepeatedAnnotations;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.A01;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Composed;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Injected;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Missing;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Scaled;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Tag;
+import static io.blt.test.assertj.benchmark.AnnotatedFixtures.Tags;
+
+/**
+ * Measures how the throughput of every {@code assertHasAnnotation} overload scales from one thread to many.
+ * <p>
+ * Each workload is run on 1, 2, 4, ... up to the maximum number of threads, first on platform threads and then, on
+ * JDK 21 and later, on virtual threads. Every thread calls the same assertion on the same shared elements, as
+ * parallel JUnit Jupiter workers do, and counts its calls locally so that the harness itself shares nothing while
+ * measuring. For each run the harness reports total throughput, throughput per core in use, and scaling efficiency
+ * relative to one thread; an efficiency well below 100% with spare cores points to contention.
+ * </p>
+ * <p>
+ * Virtual threads are not preempted, so beyond the carrier parallelism (by default the number of cores) only that
+ * many of them run while measuring, and the rest start once the run stops. Throughput per core is reported against
+ * the cores in use either way.
+ * </p>
+ * <p>
+ * JMH measures single-threaded cost well but varies thread counts only per run, so this harness is a plain
+ * {@code main}:
+ * </p>
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar io.blt.test.assertj.benchmark.ScalingHarness [max threads] [seconds]
+ * }</pre>
+ */
+public final class ScalingHarness {
+
+    private static final int WARMUP = 0;
+    private static final int MEASURE = 1;
+    private static final int STOP = 2;
+
+    private static volatile Object sink;
+
+    private final int cores = Runtime.getRuntime().availableProcessors();
+    private final long measureNanos;
+
+    private volatile int phase;
+
+    private ScalingHarness(long measureNanos) {
+        this.measureNanos = measureNanos;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        var seconds = args.length > 1 ? Double.parseDouble(args[1]) : 1;
+
+        var harness = new ScalingHarness((long) (seconds * 1_000_000_000L));
+        var kinds = new LinkedHashMap<String, ThreadFactory>();
+        kinds.put("platform", Thread::new);
+        var virtual = virtualThreadFactory();
+        if (virtual != null) {
+            kinds.put("virtual", virtual);
+        }
+
+        System.out.printf("%d cores, up to %d threads, %.1fs per run%n%n", harness.cores, maxThreads, seconds);
+        System.out.printf("%-28s %-9s %8s %14s %14s %11s%n",
+                          "Workload", "Kind", "Threads", "ops/ms", "ops/ms/core", "Efficiency");
+
+        var workloads = workloads();
+        workloads.values().forEach(Supplier::get);
+
+        for (var workload : workloads.entrySet()) {
+            harness.run(workload.getValue(), 1, Thread::new);
+            for (var kind : kinds.entrySet()) {
+                var single = 0d;
+                for (var threads : threadCounts(maxThreads)) {
+                    var throughput = harness.run(workload.getValue(), threads, kind.getValue());
+                    single = threads == 1 ? throughput : single;
+                    var used = Math.min(threads, harness.cores);
+                    System.out.printf("%-28s %-9s %8d %14.1f %14.1f %10.0f%%%n",
+                                      workload.getKey(), kind.getKey(), threads, throughput, throughput / used,
+                                      100 * throughput / (single * used));
+                }
+            }
+        }
+    }
+
+    private double run(Supplier<Object> workload, int threads, ThreadFactory factory) throws InterruptedException {
+        var ready = new CountDownLatch(threads);
+        var started = new CountDownLatch(1);
+        var done = new CountDownLatch(threads);
+        var calls = new LongAdder();
+        phase = WARMUP;
+
+        for (var i = 0; i < threads; i++) {
+            factory.newThread(() -> {
+                ready.countDown();
+                try {
+                    // Block rather than spin until every thread exists, since virtual threads are not preempted
+                    // and spinning ones would keep the rest from ever being mounted on a carrier
+                    started.await();
+                    Object last = null;
+                    while (phase == WARMUP) {
+                        last = workload.get();
+                    }
+                    var count = 0L;
+                    while (phase == MEASURE) {
+                        last = workload.get();
+                        count++;
+                    }
+                    sink = last;
+                    calls.add(count);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        ready.await();
+        started.countDown();
+        Thread.sleep(Math.max(1, measureNanos / 2_000_000));
+        var start = System.nanoTime();
+        phase = MEASURE;
+        Thread.sleep(measureNanos / 1_000_000, (int) (measureNanos % 1_000_000));
+        phase = STOP;
+        var elapsed = System.nanoTime() - start;
+        done.await();
+
+        return calls.sum() / (elapsed / 1_000_000d);
+    }
+
+    private static Map<String, Supplier<Object>> workloads() throws ReflectiveOperationException {
+        var clazz = Scaled.class;
+        Method method = clazz.getMethod("method");
+        Field field = clazz.getField("field");
+        Constructor<?> constructor = clazz.getConstructor(String.class);
+        Parameter parameter = constructor.getParameters()[0];
+        var classFile = readClassFile(clazz);
+
+        var workloads = new LinkedHashMap<String, Supplier<Object>>();
+        workloads.put("classHit", () -> assertHasAnnotation(clazz, Composed.class));
+        workloads.put("classMiss", () -> missing(() -> assertHasAnnotation(clazz, Missing.class)));
+        workloads.put("classMetaHit", () -> assertHasAnnotation(clazz, A01.class, SearchOption.META_ANNOTATIONS));
+        workloads.put("methodHit", () -> assertHasAnnotation(method, A01.class));
+        workloads.put("methodMiss", () -> missing(() -> assertHasAnnotation(method, Missing.class)));
+        workloads.put("methodHierarchyHit", () -> assertHasAnnotation(method, A01.class, SearchOption.HIERARCHY));
+        workloads.put("fieldHit", () -> assertHasAnnotation(field, A01.class));
+        workloads.put("fieldMiss", () -> missing(() -> assertHasAnnotation(field, Missing.class)));
+        workloads.put("fieldMetaHit", () -> assertHasAnnotation(field, A01.class, SearchOption.META_ANNOTATIONS));
+        workloads.put("constructorHit", () -> assertHasAnnotation(constructor, Injected.class));
+        workloads.put("parameterHit", () -> assertHasAnnotation(parameter, Injected.class));
+        workloads.put("classFileHit", () -> assertHasAnnotation(classFile, Tags.class));
+        workloads.put("batchedHit", () -> assertHasAnnotations(method, A01.class));
+        workloads.put("repeatedHit", () -> assertHasRepeatedAnnotations(clazz, Tag.class));
+        return workloads;
+    }
+
+    private static ClassFile readClassFile(Class<?> clazz) {
+        var resource = "/" + clazz.getName().replace('.', '/') + ".class";
+        try (var in = clazz.getResourceAsStream(resource)) {
+            return ClassFile.read(ByteBuffer.wrap(in.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Integer> threadCounts(int maxThreads) {
+        var counts = new ArrayList<Integer>();
+        for (var threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Object missing(Runnable assertion) {
+        try {
+            assertion.run();
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected assertion to fail");
+    }
+
+}
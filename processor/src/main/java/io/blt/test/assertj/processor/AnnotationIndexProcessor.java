@@ -0,0 +1,345 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.processor;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+import static io.blt.test.assertj.processor.AnnotationIndexWriter.IndexedAnnotation;
+import static io.blt.test.assertj.processor.AnnotationIndexWriter.IndexedClass;
+import static io.blt.test.assertj.processor.AnnotationIndexWriter.IndexedMember;
+import static io.blt.test.assertj.processor.AnnotationIndexWriter.IndexedValue;
+
+/**
+ * Writes a compact binary index of the runtime visible annotations of every compiled class to
+ * {@value #INDEX_RESOURCE}, for use by {@code io.blt.test.assertj.IndexedAnnotations}.
+ * <p>
+ * As with a class file, only attributes explicitly set where an annotation is used are recorded, and the top-level
+ * type-use annotations of a field are merged with its declaration annotations. The processor never claims any
+ * annotation, so it can run alongside any other processor.
+ * </p>
+ * <p>
+ * An incremental compilation only sees the sources it recompiles, so the index is merged with any index already in
+ * the class output: the recompiled classes, including their nested classes, replace their earlier entries and every
+ * other entry is kept. A class whose source has since been deleted therefore remains indexed until a clean build.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public final class AnnotationIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The class path resource to which the index is written.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/blt-assertj/annotations.idx";
+
+    private final List<IndexedClass> classes = new ArrayList<>();
+    private final Set<String> compiled = new HashSet<>();
+    private final ValueVisitor values = new ValueVisitor();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            write();
+        } else {
+            for (var element : round.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    compiled.add(binaryName((TypeElement) element));
+                    index((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        var fields = new ArrayList<IndexedMember>();
+        var methods = new ArrayList<IndexedMember>();
+
+        for (var enclosed : type.getEnclosedElements()) {
+            switch (enclosed.getKind()) {
+                case FIELD:
+                case ENUM_CONSTANT:
+                    var field = (VariableElement) enclosed;
+                    var annotations = annotations(field);
+                    for (var typeUse : annotations(field.asType().getAnnotationMirrors())) {
+                        if (!annotations.contains(typeUse)) {
+                            annotations.add(typeUse);
+                        }
+                    }
+                    fields.add(new IndexedMember(
+                            field.getSimpleName().toString(), descriptor(field.asType()), annotations));
+                    break;
+                case METHOD:
+                case CONSTRUCTOR:
+                    var method = (ExecutableElement) enclosed;
+                    methods.add(new IndexedMember(
+                            method.getKind() == ElementKind.CONSTRUCTOR ? "<init>" : method.getSimpleName().toString(),
+                            descriptor(type, method),
+                            annotations(method)));
+                    break;
+                default:
+                    if (enclosed instanceof TypeElement) {
+                        index((TypeElement) enclosed);
+                    }
+            }
+        }
+
+        classes.add(new IndexedClass(binaryName(type), annotations(type), fields, methods));
+    }
+
+    private List<IndexedAnnotation> annotations(Element element) {
+        return annotations(element.getAnnotationMirrors());
+    }
+
+    private List<IndexedAnnotation> annotations(List<? extends AnnotationMirror> mirrors) {
+        var annotations = new ArrayList<IndexedAnnotation>();
+        for (var mirror : mirrors) {
+            var retention = mirror.getAnnotationType().asElement().getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                annotations.add(annotation(mirror));
+            }
+        }
+        return annotations;
+    }
+
+    private IndexedAnnotation annotation(AnnotationMirror mirror) {
+        var attributes = new LinkedHashMap<String, IndexedValue>();
+        mirror.getElementValues().forEach((name, value) ->
+                attributes.put(name.getSimpleName().toString(), value.accept(values, null)));
+        return new IndexedAnnotation(binaryName((TypeElement) mirror.getAnnotationType().asElement()), attributes);
+    }
+
+    private String descriptor(TypeElement owner, ExecutableElement method) {
+        var descriptor = new StringBuilder("(");
+
+        if (method.getKind() == ElementKind.CONSTRUCTOR) {
+            if (owner.getKind() == ElementKind.ENUM) {
+                descriptor.append("Ljava/lang/String;I");
+            } else if (owner.getNestingKind() == NestingKind.MEMBER && !owner.getModifiers().contains(Modifier.STATIC)
+                       && owner.getKind() == ElementKind.CLASS) {
+                descriptor.append(descriptor(owner.getEnclosingElement().asType()));
+            }
+        }
+        for (var parameter : method.getParameters()) {
+            descriptor.append(descriptor(parameter.asType()));
+        }
+
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case DOUBLE:
+                return "D";
+            case FLOAT:
+                return "F";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case SHORT:
+                return "S";
+            case VOID:
+                return "V";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return "L" + binaryName((TypeElement) ((DeclaredType) type).asElement()).replace('.', '/') + ";";
+            default:
+                return descriptor(processingEnv.getTypeUtils().erasure(type));
+        }
+    }
+
+    private String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) type).asElement());
+            default:
+                return type.getKind().name().toLowerCase();
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void write() {
+        if (classes.isEmpty()) {
+            return;
+        }
+
+        var merged = new LinkedHashMap<String, IndexedClass>();
+        for (var previous : readPrevious()) {
+            if (!isCompiled(previous.name)) {
+                merged.put(previous.name, previous);
+            }
+        }
+        for (var indexed : classes) {
+            merged.put(indexed.name, indexed);
+        }
+
+        try {
+            var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (var out = resource.openOutputStream()) {
+                AnnotationIndexWriter.write(merged.values(), out);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR, "Failed to write " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    private List<IndexedClass> readPrevious() {
+        try {
+            var resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (var in = resource.openInputStream()) {
+                return AnnotationIndexWriter.read(in);
+            }
+        } catch (IOException e) {
+            return List.of();
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE, "Replacing unreadable " + INDEX_RESOURCE + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private boolean isCompiled(String className) {
+        var nested = className.indexOf('$');
+        return compiled.contains(className) || (nested > 0 && compiled.contains(className.substring(0, nested)));
+    }
+
+    private final class ValueVisitor extends SimpleAnnotationValueVisitor9<IndexedValue, Void> {
+
+        @Override
+        public IndexedValue visitBoolean(boolean b, Void v) {
+            return new IndexedValue('Z', b);
+        }
+
+        @Override
+        public IndexedValue visitByte(byte b, Void v) {
+            return new IndexedValue('B', b);
+        }
+
+        @Override
+        public IndexedValue visitChar(char c, Void v) {
+            return new IndexedValue('C', c);
+        }
+
+        @Override
+        public IndexedValue visitDouble(double d, Void v) {
+            return new IndexedValue('D', d);
+        }
+
+        @Override
+        public IndexedValue visitFloat(float f, Void v) {
+            return new IndexedValue('F', f);
+        }
+
+        @Override
+        public IndexedValue visitInt(int i, Void v) {
+            return new IndexedValue('I', i);
+        }
+
+        @Override
+        public IndexedValue visitLong(long i, Void v) {
+            return new IndexedValue('J', i);
+        }
+
+        @Override
+        public IndexedValue visitShort(short s, Void v) {
+            return new IndexedValue('S', s);
+        }
+
+        @Override
+        public IndexedValue visitString(String s, Void v) {
+            return new IndexedValue('s', s);
+        }
+
+        @Override
+        public IndexedValue visitType(TypeMirror t, Void v) {
+            return new IndexedValue('c', typeName(t));
+        }
+
+        @Override
+        public IndexedValue visitEnumConstant(VariableElement c, Void v) {
+            return new IndexedValue('e', c.getSimpleName().toString());
+        }
+
+        @Override
+        public IndexedValue visitAnnotation(AnnotationMirror a, Void v) {
+            return new IndexedValue('@', annotation(a));
+        }
+
+        @Override
+        public IndexedValue visitArray(List<? extends AnnotationValue> values, Void v) {
+            var array = new ArrayList<IndexedValue>(values.size());
+            for (var value : values) {
+                array.add(value.accept(this, null));
+            }
+            return new IndexedValue('[', array);
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.processor;
+
+import io.blt.test.assertj.ClassFile;
+import io.blt.test.assertj.ClassFileAnnotation;
+import io.blt.test.assertj.ClassFileMember;
+import io.blt.test.assertj.IndexedAnnotations;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationIndexProcessorTest {
+
+    private static final String SOURCE = String.join("\n",
+            "package com.acme;",
+            "",
+            "import java.lang.annotation.*;",
+            "import java.util.List;",
+            "import java.util.concurrent.TimeUnit;",
+            "",
+            "@Retention(RetentionPolicy.RUNTIME) @interface Nested { String value(); }",
+            "",
+            "@Retention(RetentionPolicy.RUNTIME) @interface AllValues {",
+            "    byte b(); char c(); short s(); boolean z(); int i(); long j(); float f(); double d();",
+            "    String string(); TimeUnit unit(); Class<?> type(); Nested nested(); int[] array();",
+            "    String defaulted() default \"default\";",
+            "}",
+            "",
+            "@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.TYPE_USE) @interface TypeUse { }",
+            "",
+            "@Retention(RetentionPolicy.CLASS) @interface Invisible { }",
+            "",
+            "@AllValues(b = 1, c = 'c', s = 2, z = true, i = 3, j = 4L, f = 5.5f, d = 6.5d,",
+            "        string = \"\\u00e9\\u4e2d\",",
+            "        unit = TimeUnit.DAYS, type = String[].class, nested = @Nested(\"nested\"), array = {7, 8})",
+            "@Invisible",
+            "public class Annotated<T> {",
+            "    @Nested(\"field\") @TypeUse String field;",
+            "    List<@TypeUse String> nestedTypeUse;",
+            "    @Deprecated T generic;",
+            "    @Deprecated Annotated(int i, T t) { }",
+            "    @Nested(\"method\") <U extends Number> U[] method(long l, List<String> list, U u) { return null; }",
+            "    class Inner { @Deprecated Inner(String s) { } }",
+            "    enum Kind { A; @Deprecated Kind() { } }",
+            "    static class StaticNested { @Deprecated void method() { } }",
+            "}",
+            "");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void indexShouldMatchClassFiles() throws IOException {
+        var index = IndexedAnnotations.read(compile());
+
+        assertThat(index.classNames()).containsExactly(
+                "com.acme.AllValues",
+                "com.acme.Annotated",
+                "com.acme.Annotated$Inner",
+                "com.acme.Annotated$Kind",
+                "com.acme.Annotated$StaticNested",
+                "com.acme.Invisible",
+                "com.acme.Nested",
+                "com.acme.TypeUse");
+        assertThat(index.find("com.acme.Annotated").orElseThrow().fields())
+                .extracting(ClassFileMember::name)
+                .containsExactly("field", "nestedTypeUse", "generic");
+        assertThat(index.find("com.acme.Annotated$Inner").orElseThrow().methods())
+                .extracting(ClassFileMember::toString)
+                .containsExactly("<init>(Lcom/acme/Annotated;Ljava/lang/String;)V");
+
+        for (var name : index.classNames()) {
+            var indexed = index.find(name).orElseThrow();
+            var classFile = ClassFile.read(dir.resolve("classes/" + name.replace('.', '/') + ".class"));
+
+            assertThat(indexed.annotations()).as(name).isEqualTo(classFile.annotations());
+            assertThat(members(classFile.fields())).as(name).containsAllEntriesOf(members(indexed.fields()));
+            assertThat(members(classFile.methods())).as(name).containsAllEntriesOf(members(indexed.methods()));
+        }
+    }
+
+    @Test
+    void indexShouldOnlyIncludeExplicitAttributes() throws IOException {
+        var annotation = IndexedAnnotations.read(compile())
+                .find("com.acme.Annotated").orElseThrow()
+                .findAnnotation("com.acme.AllValues").orElseThrow();
+
+        assertThat(annotation.attribute("defaulted")).isEmpty();
+        assertThat(annotation.attribute("type")).contains("java.lang.String[]");
+    }
+
+    @Test
+    void indexShouldNotBeWrittenIfNoClassesAreCompiled() throws IOException {
+        compile(source("package-info.java", "package com.acme;\n"));
+
+        assertThat(dir.resolve("classes/" + AnnotationIndexProcessor.INDEX_RESOURCE)).doesNotExist();
+    }
+
+    @Test
+    void indexShouldMergeClassesCompiledSeparately() throws IOException {
+        compile(source("First.java", "package com.acme; @Deprecated public class First { static class Nested { } }"));
+        compile(source("Second.java", "package com.acme; @Deprecated public class Second { }"));
+
+        var index = compile(source("First.java", "package com.acme; public class First { }"));
+
+        assertThat(IndexedAnnotations.read(index).classNames())
+                .containsExactly("com.acme.First", "com.acme.Second");
+        assertThat(IndexedAnnotations.read(index).find("com.acme.First").orElseThrow().annotations()).isEmpty();
+        assertThat(IndexedAnnotations.read(index).find("com.acme.Second").orElseThrow().annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly("java.lang.Deprecated");
+    }
+
+    private static Map<String, List<?>> members(List<ClassFileMember> members) {
+        return members.stream().collect(Collectors.toMap(m -> m.name() + m.descriptor(), ClassFileMember::annotations));
+    }
+
+    private Path compile() throws IOException {
+        return compile(source("Annotated.java", SOURCE));
+    }
+
+    private Path source(String name, String source) throws IOException {
+        return Files.writeString(dir.resolve(name), source);
+    }
+
+    private Path compile(Path source) throws IOException {
+        var classes = Files.createDirectories(dir.resolve("classes"));
+        var compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (var files = compiler.getStandardFileManager(null, null, null)) {
+            var task = compiler.getTask(
+                    null, files, null, List.of("-d", classes.toString()), null, files.getJavaFileObjects(source));
+            task.setProcessors(List.of(new AnnotationIndexProcessor()));
+
+            assertThat(task.call()).isTrue();
+        }
+
+        return classes.resolve(AnnotationIndexProcessor.INDEX_RESOURCE);
+    }
+
+}
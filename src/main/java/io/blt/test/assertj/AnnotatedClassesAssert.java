@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Consumer;
+
+/**
+ * Assertions over the annotations found on every class in a package, evaluated in parallel.
+ * <p>
+ * Instances are created via {@link ClassesAssert#allHaveAnnotation(Class)}.
+ * </p>
+ *
+ * @param <T> type of {@code Annotation}
+ */
+public final class AnnotatedClassesAssert<T extends Annotation> {
+
+    private final ClassSet classes;
+    private final Class<T> annotation;
+
+    AnnotatedClassesAssert(ClassSet classes, Class<T> annotation) {
+        this.classes = classes;
+        this.annotation = annotation;
+    }
+
+    /**
+     * Asserts that the annotation found on every class satisfies the given requirements.
+     * <p>
+     * If the requirements are not met by any annotation, the test fails listing every such class and the reason.
+     * </p>
+     *
+     * @param requirements assertions to perform on each annotation e.g. {@code a -> assertThat(a.value()).isTrue()}
+     * @return this assertion object
+     */
+    public AnnotatedClassesAssert<T> satisfying(Consumer<? super T> requirements) {
+        ClassesAssert.failIfAnyViolations(
+                classes,
+                c -> {
+                    try {
+                        requirements.accept(AnnotationIndex.of(c).get(annotation));
+                        return null;
+                    } catch (AssertionError e) {
+                        return c.getName() + ": " + String.valueOf(e.getMessage()).strip();
+                    }
+                },
+                null,
+                "to have annotation of type " + annotation.getSimpleName() + " satisfying requirements");
+
+        return this;
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Assertions for an annotation instance, including its attributes by name.
+ * <p>
+ * Attribute accessors and default values are resolved once per annotation type, so attribute checks across large
+ * suites do not repeat reflective lookups. Array-valued attributes are compared element-wise.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void isReadOnlyTransactional() {
+ *     assertHasAnnotation(NotificationPublisher.class, Transactional.class)
+ *             .hasAttribute("readOnly", true)
+ *             .hasAttribute("noRollbackFor", new Class<?>[] {Exception.class});
+ * }
+ * }</pre>
+ *
+ * @param <T> type of {@code Annotation}
+ */
+public final class AnnotationAssert<T extends Annotation> extends AbstractObjectAssert<AnnotationAssert<T>, T> {
+
+    AnnotationAssert(T actual) {
+        super(actual, AnnotationAssert.class);
+    }
+
+    /**
+     * Asserts that the annotation has an attribute with a given value.
+     *
+     * @param name     the attribute name e.g. {@code "readOnly"}
+     * @param expected the expected value; arrays are compared element-wise and numbers that convert exactly to the
+     *                 attribute's type are converted e.g. {@code 1} to {@code 1L}
+     * @return this assertion object
+     */
+    public AnnotationAssert<T> hasAttribute(String name, Object expected) {
+        return hasAttributes(Collections.singletonMap(name, expected));
+    }
+
+    /**
+     * Asserts that the annotation has attributes with the given values.
+     * <p>
+     * Every attribute is checked and all mismatches are reported together.
+     * </p>
+     *
+     * @param expected the expected values by attribute name; arrays are compared element-wise and numbers that
+     *                 convert exactly to the attribute's type are converted e.g. {@code 1} to {@code 1L}
+     * @return this assertion object
+     */
+    public AnnotationAssert<T> hasAttributes(Map<String, ?> expected) {
+        isNotNull();
+        var attributes = AnnotationAttributes.of(actual.annotationType());
+        var mismatches = new ArrayList<String>();
+
+        for (var entry : expected.entrySet()) {
+            var index = attributes.indexOf(entry.getKey());
+            if (index < 0) {
+                mismatches.add(String.format("  %s: no such attribute", entry.getKey()));
+                continue;
+            }
+
+            var value = attributes.value(actual, index);
+            if (entry.getValue() == null) {
+                mismatches.add(String.format("  %s: expected null but attributes are never null", entry.getKey()));
+                continue;
+            }
+
+            var expectedValue = attributes.coerce(index, entry.getValue());
+            if (!Objects.deepEquals(value, expectedValue)) {
+                mismatches.add(mismatch(entry.getKey(), expectedValue, value));
+            }
+        }
+
+        failIfAny(mismatches, "to have attributes");
+        return myself;
+    }
+
+    /**
+     * Asserts that every attribute of the annotation that declares a default value is set to that default.
+     *
+     * @return this assertion object
+     */
+    public AnnotationAssert<T> hasDefaultAttributes() {
+        isNotNull();
+        var attributes = AnnotationAttributes.of(actual.annotationType());
+        var mismatches = new ArrayList<String>();
+
+        for (var i = 0; i < attributes.size(); i++) {
+            var defaultValue = attributes.defaultValue(i);
+            if (defaultValue != null) {
+                var value = attributes.value(actual, i);
+                if (!Objects.deepEquals(value, defaultValue)) {
+                    mismatches.add(mismatch(attributes.name(i), defaultValue, value));
+                }
+            }
+        }
+
+        failIfAny(mismatches, "to have default attributes");
+        return myself;
+    }
+
+    /**
+     * Asserts that the annotation is of the same type as, and has the same attribute values as, an expected
+     * annotation, reporting every mismatched attribute.
+     * <p>
+     * Attributes are compared through the precomputed attribute table of the annotation type, and array-valued
+     * attributes element-wise. Where {@code expected} was built with
+     * {@link AnnotationAssertions#expectedAnnotation(Class)}, its values are read directly, without copying.
+     * </p>
+     *
+     * @param expected the expected annotation, typically built with {@link AnnotationAssertions#expectedAnnotation}
+     * @return this assertion object
+     */
+    public AnnotationAssert<T> isEquivalentTo(Annotation expected) {
+        isNotNull();
+        if (actual.annotationType() != expected.annotationType()) {
+            failWithMessage("Expecting annotation of type %s but was %s",
+                            expected.annotationType().getSimpleName(), actual.annotationType().getSimpleName());
+        }
+
+        var attributes = AnnotationAttributes.of(actual.annotationType());
+        var mismatches = new ArrayList<String>();
+
+        for (var i = 0; i < attributes.size(); i++) {
+            var expectedValue = attributes.value(expected, i);
+            var value = attributes.value(actual, i);
+            if (!Objects.deepEquals(value, expectedValue)) {
+                mismatches.add(mismatch(attributes.name(i), expectedValue, value));
+            }
+        }
+
+        failIfAny(mismatches, "to be equivalent to expected");
+        return myself;
+    }
+
+    private String mismatch(String name, Object expected, Object actual) {
+        var representation = info.representation();
+        var mismatch = String.format("  %s: expected %s but was %s",
+                                     name, representation.toStringOf(expected), representation.toStringOf(actual));
+        if (expected != null && actual != null && expected.getClass() != actual.getClass()) {
+            mismatch += String.format(" (expected %s but was %s)",
+                                      expected.getClass().getSimpleName(), actual.getClass().getSimpleName());
+        }
+        return mismatch;
+    }
+
+    private void failIfAny(List<String> mismatches, String expectation) {
+        if (!mismatches.isEmpty()) {
+            var message = new StringBuilder("Expecting annotation of type ")
+                    .append(actual.annotationType().getSimpleName())
+                    .append(" ")
+                    .append(expectation)
+                    .append(" but:");
+            mismatches.forEach(m -> message.append(System.lineSeparator()).append(m));
+            failWithMessage("%s", message);
+        }
+    }
+
+}
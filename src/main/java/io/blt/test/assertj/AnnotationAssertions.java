@@ -25,11 +25,20 @@
 package io.blt.test.assertj;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.assertj.core.api.ListAssert;
 import org.assertj.core.api.ObjectAssert;
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.internal.Failures;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,7 +47,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Assertion factory methods that allow testing the annotations of various types.
  * <p>
  * Each method is a static factory for an annotation specific assertion object
- * i.e. each method returns {@code ObjectAssert<T extends Annotation>}.
+ * e.g. {@code assertHasAnnotation(...)} returns {@code AnnotationAssert<T extends Annotation>}.
  * </p>
  * e.g.
  * <pre>{@code
@@ -76,10 +85,10 @@ public final class AnnotationAssertions {
      * @param method     a {@code Method} to test for the presence of {@code annotation}
      * @param annotation the expected {@code Annotation} type
      * @param <T>        type of {@code Annotation}
-     * @return an assertion object for the found annotation i.e. {@code ObjectAssert<T extends Annotation>}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
      */
-    public static <T extends Annotation> ObjectAssert<T> assertHasAnnotation(Method method, Class<T> annotation) {
-        return assertThat(findAnnotationOfTypeOrFail(method.getAnnotations(), annotation));
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Method method, Class<T> annotation) {
+        return new AnnotationAssert<>(findAnnotationOfTypeOrFail(method, AnnotationIndex.of(method), annotation));
     }
 
     /**
@@ -100,10 +109,10 @@ public final class AnnotationAssertions {
      * @param clazz      a {@code Class} to test for the presence of {@code annotation}
      * @param annotation the expected {@code Annotation} type
      * @param <T>        type of {@code Annotation}
-     * @return an assertion object for the found annotation i.e. {@code ObjectAssert<T extends Annotation>}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
      */
-    public static <T extends Annotation> ObjectAssert<T> assertHasAnnotation(Class<?> clazz, Class<T> annotation) {
-        return assertThat(findAnnotationOfTypeOrFail(clazz.getAnnotations(), annotation));
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Class<?> clazz, Class<T> annotation) {
+        return new AnnotationAssert<>(findAnnotationOfTypeOrFail(clazz, AnnotationIndex.of(clazz), annotation));
     }
 
     /**
@@ -126,25 +135,884 @@ public final class AnnotationAssertions {
      * @param field      a {@code Field} to test for the presence of {@code annotation}
      * @param annotation the expected {@code Annotation} type
      * @param <T>        type of {@code Annotation}
-     * @return an assertion object for the found annotation i.e. {@code ObjectAssert<T extends Annotation>}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
      */
-    public static <T extends Annotation> ObjectAssert<T> assertHasAnnotation(Field field, Class<T> annotation) {
-        var annotations = Stream.concat(
-                        Arrays.stream(field.getAnnotations()),
-                        Arrays.stream(field.getAnnotatedType().getAnnotations()))
-                .distinct()
-                .toArray(Annotation[]::new);
-        return assertThat(findAnnotationOfTypeOrFail(annotations, annotation));
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Field field, Class<T> annotation) {
+        return new AnnotationAssert<>(findAnnotationOfTypeOrFail(field, AnnotationIndex.of(field), annotation));
     }
 
-    private static <T extends Annotation> T findAnnotationOfTypeOrFail(Annotation[] annotations, Class<T> type) {
-        var instance = Arrays.stream(annotations)
-                             .filter(a -> a.annotationType().equals(type))
-                             .findFirst()
-                             .orElseThrow(() -> Failures.instance().failure(
-                                     "Cannot find annotation of type " + type.getSimpleName()));
+    /**
+     * Asserts that a {@code Constructor} is annotated with a given annotation.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAnnotatedForInjection() throws Exception {
+     *     var constructor = NotificationPublisher.class.getConstructor(MailSender.class);
+     *
+     *     assertHasAnnotation(constructor, Autowired.class);
+     * }
+     * }</pre>
+     *
+     * @param constructor a {@code Constructor} to test for the presence of {@code annotation}
+     * @param annotation  the expected {@code Annotation} type
+     * @param <T>         type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Constructor<?> constructor,
+                                                                                 Class<T> annotation) {
+        return new AnnotationAssert<>(
+                findAnnotationOfTypeOrFail(constructor, AnnotationIndex.of(constructor), annotation));
+    }
+
+    /**
+     * Asserts that a {@code Parameter} is annotated with a given annotation, either on its declaration or its
+     * declared type.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isQualifiedAsPrimary() throws Exception {
+     *     var parameter = NotificationPublisher.class.getConstructor(MailSender.class).getParameters()[0];
+     *
+     *     assertHasAnnotation(parameter, Qualifier.class)
+     *             .extracting(Qualifier::value)
+     *             .isEqualTo("primary");
+     * }
+     * }</pre>
+     *
+     * @param parameter  a {@code Parameter} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     * @see #assertParameters(Executable)
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Parameter parameter,
+                                                                                 Class<T> annotation) {
+        return new AnnotationAssert<>(
+                findAnnotationOfTypeOrFail(parameter, AnnotationIndex.of(parameter), annotation));
+    }
+
+    /**
+     * Asserts that a {@code Method} is annotated with a given annotation, searching as directed by {@code options}.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isTransactionalViaDomainServiceStereotype() {
+     *     assertHasAnnotation(method, Transactional.class, SearchOption.META_ANNOTATIONS)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param method     a {@code Method} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param options    where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Method method,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(method, annotation, options);
+        LookupInstrumentation.finish(lookup, method, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Method}, as invoked on a given class, is annotated with a given annotation, searching as
+     * directed by {@code options}.
+     * <p>
+     * With {@link SearchOption#HIERARCHY}, the hierarchy of {@code targetClass} is searched rather than that of the
+     * class declaring {@code method}. This finds annotations on an interface that {@code targetClass} implements with
+     * a method it inherits, e.g. where {@code Sub extends Base implements Api}, {@code Sub.class.getMethod("foo")}
+     * returns {@code Base.foo}, which alone cannot see {@code Api.foo}.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isTransactionalViaInterfaceImplementedWithInheritedMethod() throws Exception {
+     *     var method = NotificationPublisherImpl.class.getMethod("sendNotification");
+     *
+     *     assertHasAnnotation(method, NotificationPublisherImpl.class, Transactional.class, SearchOption.HIERARCHY);
+     * }
+     * }</pre>
+     *
+     * @param method      a {@code Method} to test for the presence of {@code annotation}
+     * @param targetClass the class {@code method} is invoked on, which is or extends the class declaring it
+     * @param annotation  the expected {@code Annotation} type
+     * @param options     where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>         type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     * @throws IllegalArgumentException if {@code method} is not a member of {@code targetClass}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Method method,
+                                                                                 Class<?> targetClass,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(method, targetClass, annotation, options);
+        LookupInstrumentation.finish(lookup, method, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Class} is annotated with a given annotation, searching as directed by {@code options}.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isTransactionalViaDomainServiceStereotype() {
+     *     assertHasAnnotation(NotificationPublisher.class, Transactional.class, SearchOption.META_ANNOTATIONS)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param clazz      a {@code Class} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param options    where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Class<?> clazz,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(clazz, annotation, options);
+        LookupInstrumentation.finish(lookup, clazz, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Field} is annotated with a given annotation, searching as directed by {@code options}.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isTransactionalViaDomainServiceStereotype() {
+     *     assertHasAnnotation(field, Transactional.class, SearchOption.META_ANNOTATIONS)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param field      a {@code Field} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param options    where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Field field,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(field, annotation, options);
+        LookupInstrumentation.finish(lookup, field, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Constructor} is annotated with a given annotation, searching as directed by
+     * {@code options}.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAutowiredViaInjectionPointStereotype() throws Exception {
+     *     var constructor = NotificationPublisher.class.getConstructor(MailSender.class);
+     *
+     *     assertHasAnnotation(constructor, Autowired.class, SearchOption.META_ANNOTATIONS);
+     * }
+     * }</pre>
+     *
+     * @param constructor a {@code Constructor} to test for the presence of {@code annotation}
+     * @param annotation  the expected {@code Annotation} type
+     * @param options     where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>         type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Constructor<?> constructor,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(constructor, annotation, options);
+        LookupInstrumentation.finish(lookup, constructor, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Parameter} is annotated with a given annotation, either on its declaration or its
+     * declared type, searching as directed by {@code options}.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isValidatedAsDeclaredByInterface() throws Exception {
+     *     var parameter = NotificationPublisher.class.getMethod("publish", Notification.class).getParameters()[0];
+     *
+     *     assertHasAnnotation(parameter, Valid.class, SearchOption.HIERARCHY);
+     * }
+     * }</pre>
+     *
+     * @param parameter  a {@code Parameter} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param options    where to search for {@code annotation}, in addition to the annotations directly present
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> AnnotationAssert<T> assertHasAnnotation(Parameter parameter,
+                                                                                 Class<T> annotation,
+                                                                                 SearchOption... options) {
+        var lookup = LookupInstrumentation.start();
+        var found = AnnotationSearch.find(parameter, annotation, options);
+        LookupInstrumentation.finish(lookup, parameter, annotation, found != null);
+        return new AnnotationAssert<>(failIfNull(found, annotation));
+    }
+
+    /**
+     * Creates a builder of an expected instance of an annotation type, for use with
+     * {@link AnnotationAssert#isEquivalentTo(Annotation)}.
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isReadOnlyTransactional() {
+     *     var expected = expectedAnnotation(Transactional.class)
+     *             .with("readOnly", true)
+     *             .build();
+     *
+     *     assertHasAnnotation(NotificationPublisher.class, Transactional.class)
+     *             .isEquivalentTo(expected);
+     * }
+     * }</pre>
+     *
+     * @param annotation the {@code Annotation} type to build
+     * @param <T>        type of {@code Annotation}
+     * @return a builder whose unset attributes take their default values
+     */
+    public static <T extends Annotation> ExpectedAnnotation<T> expectedAnnotation(Class<T> annotation) {
+        return new ExpectedAnnotation<>(annotation);
+    }
+
+    /**
+     * Asserts that a {@code Method} is annotated with every one of the given annotations.
+     * <p>
+     * All annotations are resolved in a single pass; if any are missing, the test fails with one error per missing
+     * annotation. If all are present, an assertion object is returned from which each found annotation can be asserted.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAnnotatedAsTransactionalAndTimed() {
+     *     assertHasAnnotations(method, Transactional.class, Timed.class)
+     *             .annotation(Transactional.class)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param method      a {@code Method} to test for the presence of {@code annotations}
+     * @param annotations the expected {@code Annotation} types
+     * @return an assertion object for the found annotations
+     */
+    @SafeVarargs
+    public static AnnotationsAssert assertHasAnnotations(Method method,
+                                                         Class<? extends Annotation>... annotations) {
+        return findAnnotationsOfTypesOrFail(method, AnnotationIndex.of(method), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Method} is annotated with none of the given annotations.
+     * <p>
+     * All annotations are checked in a single pass; if any are present, the test fails with one error per present
+     * annotation.
+     * </p>
+     *
+     * @param method      a {@code Method} to test for the absence of {@code annotations}
+     * @param annotations the unexpected {@code Annotation} types
+     */
+    @SafeVarargs
+    public static void assertHasNoAnnotations(Method method, Class<? extends Annotation>... annotations) {
+        failIfAnyAnnotationsOfTypesPresent(method, AnnotationIndex.of(method), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Class} is annotated with every one of the given annotations.
+     * <p>
+     * All annotations are resolved in a single pass; if any are missing, the test fails with one error per missing
+     * annotation. If all are present, an assertion object is returned from which each found annotation can be asserted.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAnnotatedAsTransactionalAndTimed() {
+     *     assertHasAnnotations(NotificationPublisher.class, Transactional.class, Timed.class)
+     *             .annotation(Transactional.class)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param clazz       a {@code Class} to test for the presence of {@code annotations}
+     * @param annotations the expected {@code Annotation} types
+     * @return an assertion object for the found annotations
+     */
+    @SafeVarargs
+    public static AnnotationsAssert assertHasAnnotations(Class<?> clazz,
+                                                         Class<? extends Annotation>... annotations) {
+        return findAnnotationsOfTypesOrFail(clazz, AnnotationIndex.of(clazz), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Class} is annotated with none of the given annotations.
+     * <p>
+     * All annotations are checked in a single pass; if any are present, the test fails with one error per present
+     * annotation.
+     * </p>
+     *
+     * @param clazz       a {@code Class} to test for the absence of {@code annotations}
+     * @param annotations the unexpected {@code Annotation} types
+     */
+    @SafeVarargs
+    public static void assertHasNoAnnotations(Class<?> clazz, Class<? extends Annotation>... annotations) {
+        failIfAnyAnnotationsOfTypesPresent(clazz, AnnotationIndex.of(clazz), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Field} is annotated with every one of the given annotations.
+     * <p>
+     * All annotations are resolved in a single pass; if any are missing, the test fails with one error per missing
+     * annotation. If all are present, an assertion object is returned from which each found annotation can be asserted.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAnnotatedAsTransactionalAndTimed() {
+     *     assertHasAnnotations(field, Transactional.class, Timed.class)
+     *             .annotation(Transactional.class)
+     *             .extracting(Transactional::noRollbackFor)
+     *             .isEqualTo(Exception.class);
+     * }
+     * }</pre>
+     *
+     * @param field       a {@code Field} to test for the presence of {@code annotations}
+     * @param annotations the expected {@code Annotation} types
+     * @return an assertion object for the found annotations
+     */
+    @SafeVarargs
+    public static AnnotationsAssert assertHasAnnotations(Field field,
+                                                         Class<? extends Annotation>... annotations) {
+        return findAnnotationsOfTypesOrFail(field, AnnotationIndex.of(field), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Field} is annotated with none of the given annotations.
+     * <p>
+     * All annotations are checked in a single pass; if any are present, the test fails with one error per present
+     * annotation.
+     * </p>
+     *
+     * @param field       a {@code Field} to test for the absence of {@code annotations}
+     * @param annotations the unexpected {@code Annotation} types
+     */
+    @SafeVarargs
+    public static void assertHasNoAnnotations(Field field, Class<? extends Annotation>... annotations) {
+        failIfAnyAnnotationsOfTypesPresent(field, AnnotationIndex.of(field), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Constructor} is annotated with every one of the given annotations.
+     * <p>
+     * All annotations are resolved in a single pass; if any are missing, the test fails with one error per missing
+     * annotation. If all are present, an assertion object is returned from which each found annotation can be asserted.
+     * </p>
+     *
+     * @param constructor a {@code Constructor} to test for the presence of {@code annotations}
+     * @param annotations the expected {@code Annotation} types
+     * @return an assertion object for the found annotations
+     */
+    @SafeVarargs
+    public static AnnotationsAssert assertHasAnnotations(Constructor<?> constructor,
+                                                         Class<? extends Annotation>... annotations) {
+        return findAnnotationsOfTypesOrFail(constructor, AnnotationIndex.of(constructor), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Constructor} is annotated with none of the given annotations.
+     * <p>
+     * All annotations are checked in a single pass; if any are present, the test fails with one error per present
+     * annotation.
+     * </p>
+     *
+     * @param constructor a {@code Constructor} to test for the absence of {@code annotations}
+     * @param annotations the unexpected {@code Annotation} types
+     */
+    @SafeVarargs
+    public static void assertHasNoAnnotations(Constructor<?> constructor, Class<? extends Annotation>... annotations) {
+        failIfAnyAnnotationsOfTypesPresent(constructor, AnnotationIndex.of(constructor), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Parameter} is annotated with every one of the given annotations.
+     * <p>
+     * All annotations are resolved in a single pass; if any are missing, the test fails with one error per missing
+     * annotation. If all are present, an assertion object is returned from which each found annotation can be asserted.
+     * </p>
+     *
+     * @param parameter   a {@code Parameter} to test for the presence of {@code annotations}
+     * @param annotations the expected {@code Annotation} types
+     * @return an assertion object for the found annotations
+     */
+    @SafeVarargs
+    public static AnnotationsAssert assertHasAnnotations(Parameter parameter,
+                                                         Class<? extends Annotation>... annotations) {
+        return findAnnotationsOfTypesOrFail(parameter, AnnotationIndex.of(parameter), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Parameter} is annotated with none of the given annotations.
+     * <p>
+     * All annotations are checked in a single pass; if any are present, the test fails with one error per present
+     * annotation.
+     * </p>
+     *
+     * @param parameter   a {@code Parameter} to test for the absence of {@code annotations}
+     * @param annotations the unexpected {@code Annotation} types
+     */
+    @SafeVarargs
+    public static void assertHasNoAnnotations(Parameter parameter, Class<? extends Annotation>... annotations) {
+        failIfAnyAnnotationsOfTypesPresent(parameter, AnnotationIndex.of(parameter), annotations);
+    }
+
+    /**
+     * Asserts that a {@code Method} is annotated with one or more instances of a given, typically
+     * {@link java.lang.annotation.Repeatable}, annotation.
+     * <p>
+     * Repeated annotations held by their container annotation are unwrapped transparently. If any are present, an
+     * assertion object is returned for the found annotation instances, in declaration order, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isScheduledHourlyAndDaily() {
+     *     assertHasRepeatedAnnotations(method, Scheduled.class)
+     *             .extracting(Scheduled::cron)
+     *             .containsExactly("0 0 * * * *", "0 0 0 * * *");
+     * }
+     * }</pre>
+     *
+     * @param method     a {@code Method} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotations i.e. {@code ListAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> ListAssert<T> assertHasRepeatedAnnotations(Method method,
+                                                                                    Class<T> annotation) {
+        var found = LookupInstrumentation.repeated(method, AnnotationIndex.of(method), annotation);
+        return assertThat(failIfEmpty(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Class} is annotated with one or more instances of a given, typically
+     * {@link java.lang.annotation.Repeatable}, annotation.
+     * <p>
+     * Repeated annotations held by their container annotation are unwrapped transparently. If any are present, an
+     * assertion object is returned for the found annotation instances, in declaration order, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isScheduledHourlyAndDaily() {
+     *     assertHasRepeatedAnnotations(NotificationPublisher.class, Scheduled.class)
+     *             .extracting(Scheduled::cron)
+     *             .containsExactly("0 0 * * * *", "0 0 0 * * *");
+     * }
+     * }</pre>
+     *
+     * @param clazz      a {@code Class} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotations i.e. {@code ListAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> ListAssert<T> assertHasRepeatedAnnotations(Class<?> clazz,
+                                                                                    Class<T> annotation) {
+        var found = LookupInstrumentation.repeated(clazz, AnnotationIndex.of(clazz), annotation);
+        return assertThat(failIfEmpty(found, annotation));
+    }
+
+    /**
+     * Asserts that a {@code Field} is annotated with one or more instances of a given, typically
+     * {@link java.lang.annotation.Repeatable}, annotation.
+     * <p>
+     * Repeated annotations held by their container annotation are unwrapped transparently. If any are present, an
+     * assertion object is returned for the found annotation instances, in declaration order, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isScheduledHourlyAndDaily() {
+     *     assertHasRepeatedAnnotations(field, Scheduled.class)
+     *             .extracting(Scheduled::cron)
+     *             .containsExactly("0 0 * * * *", "0 0 0 * * *");
+     * }
+     * }</pre>
+     *
+     * @param field      a {@code Field} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotations i.e. {@code ListAssert<T extends Annotation>}
+     */
+    public static <T extends Annotation> ListAssert<T> assertHasRepeatedAnnotations(Field field,
+                                                                                    Class<T> annotation) {
+        var found = LookupInstrumentation.repeated(field, AnnotationIndex.of(field), annotation);
+        return assertThat(failIfEmpty(found, annotation));
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on a {@code Class}.
+     * <p>
+     * Each check (exactly, none of, or any of a set of annotation types) is a bitset operation over interned type IDs.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isOnlyAServiceAndTransactional() {
+     *     assertAnnotationsOf(NotificationPublisher.class)
+     *             .hasOnlyAnnotations(Service.class, Transactional.class);
+     * }
+     * }</pre>
+     *
+     * @param clazz a {@code Class} whose annotations are asserted
+     * @return an assertion object for the annotation types of {@code clazz}
+     */
+    public static AnnotationSetAssert assertAnnotationsOf(Class<?> clazz) {
+        return new AnnotationSetAssert(AnnotationIndex.of(clazz));
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on a {@code Method}.
+     *
+     * @param method a {@code Method} whose annotations are asserted
+     * @return an assertion object for the annotation types of {@code method}
+     * @see #assertAnnotationsOf(Class)
+     */
+    public static AnnotationSetAssert assertAnnotationsOf(Method method) {
+        return new AnnotationSetAssert(AnnotationIndex.of(method));
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on a {@code Field}, including the
+     * annotations of its declared type.
+     *
+     * @param field a {@code Field} whose annotations are asserted
+     * @return an assertion object for the annotation types of {@code field}
+     * @see #assertAnnotationsOf(Class)
+     */
+    public static AnnotationSetAssert assertAnnotationsOf(Field field) {
+        return new AnnotationSetAssert(AnnotationIndex.of(field));
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on a {@code Constructor}.
+     *
+     * @param constructor a {@code Constructor} whose annotations are asserted
+     * @return an assertion object for the annotation types of {@code constructor}
+     * @see #assertAnnotationsOf(Class)
+     */
+    public static AnnotationSetAssert assertAnnotationsOf(Constructor<?> constructor) {
+        return new AnnotationSetAssert(AnnotationIndex.of(constructor));
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on a {@code Parameter}, including the
+     * annotations of its declared type.
+     *
+     * @param parameter a {@code Parameter} whose annotations are asserted
+     * @return an assertion object for the annotation types of {@code parameter}
+     * @see #assertAnnotationsOf(Class)
+     */
+    public static AnnotationSetAssert assertAnnotationsOf(Parameter parameter) {
+        return new AnnotationSetAssert(AnnotationIndex.of(parameter));
+    }
+
+    /**
+     * Creates assertions over the declared methods, fields and constructors of a {@code Class}.
+     * <p>
+     * A member × annotation matrix is built once per class, so filtering members and asserting their annotations
+     * scans a precomputed table instead of reflecting on each member.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void publicMethodsExceptGettersAreTransactional() {
+     *     assertMembersOf(NotificationPublisher.class)
+     *             .methods()
+     *             .filteredOn(isPublic())
+     *             .filteredOn(isGetter().negate())
+     *             .allHaveAnnotation(Transactional.class);
+     * }
+     * }</pre>
+     *
+     * @param clazz a {@code Class} whose declared members are asserted
+     * @return an assertion object for the declared members of {@code clazz}
+     */
+    public static ClassMembersAssert assertMembersOf(Class<?> clazz) {
+        return new ClassMembersAssert(MemberMatrix.of(clazz));
+    }
+
+    /**
+     * Creates assertions over the annotations of the parameters of a {@code Method} or {@code Constructor}, by
+     * position.
+     * <p>
+     * The annotations of every parameter are fetched together, once per executable, so asserting many parameters
+     * (e.g. of every handler method in a controller layer) does not reflect upon each parameter in turn.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void validatesRequestBody() throws Exception {
+     *     var method = NotificationController.class.getMethod("send", String.class, Notification.class);
+     *
+     *     assertParameters(method)
+     *             .hasAnnotation(1, Valid.class);
+     * }
+     * }</pre>
+     *
+     * @param executable a {@code Method} or {@code Constructor} whose parameters are asserted
+     * @return an assertion object for the parameters of {@code executable}
+     */
+    public static ParametersAssert assertParameters(Executable executable) {
+        return new ParametersAssert(executable);
+    }
+
+    /**
+     * Creates assertions for the type-use annotations of the declared type of a {@code Field}, at any depth.
+     * <p>
+     * Unlike {@link #assertHasAnnotation(Field, Class)}, which only sees annotations on the top-level type, this
+     * allows navigating into type arguments, array components and wildcard or type variable bounds.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void itemsAreNotNull() throws Exception {
+     *     var field = Order.class.getDeclaredField("items");
+     *
+     *     assertTypeUse(field)
+     *             .typeArgument(0)
+     *             .hasAnnotation(NotNull.class);
+     * }
+     * }</pre>
+     *
+     * @param field a {@code Field} whose declared type is asserted
+     * @return an assertion object for the declared type of {@code field}
+     */
+    public static TypeUseAssert assertTypeUse(Field field) {
+        return new TypeUseAssert(field.getAnnotatedType(), "");
+    }
+
+    /**
+     * Creates assertions for the type-use annotations of the return type of a {@code Method}, at any depth.
+     *
+     * @param method a {@code Method} whose return type is asserted
+     * @return an assertion object for the return type of {@code method}
+     * @see #assertTypeUse(Field)
+     */
+    public static TypeUseAssert assertTypeUse(Method method) {
+        return new TypeUseAssert(method.getAnnotatedReturnType(), "");
+    }
+
+    /**
+     * Asserts that a class file element (i.e. a class, field or method read by {@link ClassFile}) is annotated with a
+     * given annotation.
+     * <p>
+     * Neither the annotated class nor the annotation type is loaded; only the name of {@code annotation} is compared.
+     * If present, an assertion object is returned for the found annotation view, else the test fails.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void isAnnotatedAsTransactionalAndReadOnly() {
+     *     var classFile = ClassFile.read(Path.of("target/classes/com/acme/NotificationPublisher.class"));
+     *
+     *     assertHasAnnotation(classFile, Transactional.class)
+     *             .extracting(a -> a.attribute("readOnly"))
+     *             .isEqualTo(Optional.of(true));
+     * }
+     * }</pre>
+     *
+     * @param element    a {@code ClassFileElement} to test for the presence of {@code annotation}
+     * @param annotation the expected {@code Annotation} type
+     * @return an assertion object for the found annotation i.e. {@code ObjectAssert<ClassFileAnnotation>}
+     */
+    public static ObjectAssert<ClassFileAnnotation> assertHasAnnotation(ClassFileElement element,
+                                                                        Class<? extends Annotation> annotation) {
+        return assertThat(element.findAnnotation(annotation.getName())
+                                 .orElseThrow(() -> Failures.instance().failure(
+                                         "Cannot find annotation of type " + annotation.getSimpleName())));
+    }
+
+    /**
+     * Creates assertions over every class in a package and its sub-packages.
+     * <p>
+     * The class path is scanned once and the returned assertion object evaluates each rule across all classes in
+     * parallel, failing with every violating class rather than just the first.
+     * Classes are loaded but not initialized.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void restControllersAreSecured() {
+     *     assertThatClassesIn("com.acme.api")
+     *             .annotatedWith(RestController.class)
+     *             .allHaveAnnotation(PreAuthorize.class);
+     * }
+     * }</pre>
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @return an assertion object for the classes in {@code packageName}
+     */
+    public static ClassesAssert assertThatClassesIn(String packageName) {
+        return new ClassesAssert(ClassSet.scan(packageName));
+    }
+
+    /**
+     * Creates assertions over every class file in a {@link ClassSource}, such as a deployed (fat) JAR.
+     * <p>
+     * Class files are streamed from the source once per rule and no class is loaded, so large artifacts can be
+     * verified with bounded memory and without extracting them.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void deployedControllersAreSecured() {
+     *     assertThatClassFilesIn(ClassSource.archive(Path.of("target/service.jar")).inPackage("com.acme.api"))
+     *             .annotatedWith(RestController.class)
+     *             .allHaveAnnotation(PreAuthorize.class);
+     * }
+     * }</pre>
+     *
+     * @param source the class files to assert
+     * @return an assertion object for the class files in {@code source}
+     */
+    public static ClassFilesAssert assertThatClassFilesIn(ClassSource source) {
+        return new ClassFilesAssert(source);
+    }
+
+    /**
+     * Asserts that the annotations of every class, field and method in a package (and its sub-packages) match a
+     * golden file {@code <packageName>.snapshot}.
+     * <p>
+     * The golden file is in the directory set by {@code -Dblt.assertj.snapshotDirectory}, else in
+     * {@code src/test/resources/annotation-snapshots} of the project directory set by Maven Surefire, else of the
+     * working directory.
+     * </p>
+     * <p>
+     * Annotations are read from class files, so no class is loaded, and only attributes explicitly set where an
+     * annotation is used are captured. Run with {@code -Dblt.assertj.updateSnapshots=true} to write the golden file or
+     * accept intended changes. Otherwise the test fails if the golden file does not exist, or lists every added
+     * ({@code +}) and removed ({@code -}) annotation.
+     * </p>
+     * e.g.
+     * <pre>{@code
+     * @Test
+     * void apiAnnotationsAreUnchanged() {
+     *     assertAnnotationSnapshot("com.acme.api");
+     * }
+     * }</pre>
+     *
+     * @param packageName the root package to snapshot e.g. {@code com.acme.api}
+     */
+    public static void assertAnnotationSnapshot(String packageName) {
+        assertAnnotationSnapshot(packageName, AnnotationSnapshot.golden(packageName));
+    }
+
+    /**
+     * Asserts that the annotations of every class, field and method in a package (and its sub-packages) match a
+     * given golden file.
+     *
+     * @param packageName the root package to snapshot e.g. {@code com.acme.api}
+     * @param snapshot    the golden file
+     * @see #assertAnnotationSnapshot(String)
+     */
+    public static void assertAnnotationSnapshot(String packageName, Path snapshot) {
+        AnnotationSnapshot.assertMatches(packageName, ClassSet.contextLoader(), snapshot);
+    }
+
+    private static AnnotationsAssert findAnnotationsOfTypesOrFail(AnnotatedElement element,
+                                                                  AnnotationIndex index,
+                                                                  Class<? extends Annotation>[] types) {
+        var found = new HashMap<Class<? extends Annotation>, Annotation>();
+        var failures = new ArrayList<AssertionError>();
+
+        for (var type : types) {
+            var instance = LookupInstrumentation.get(element, index, type);
+            if (instance == null) {
+                failures.add(Failures.instance().failure("Cannot find annotation of type " + type.getSimpleName()));
+            } else {
+                found.put(type, instance);
+            }
+        }
+
+        failIfAny(failures, "Missing annotations");
+        return new AnnotationsAssert(found);
+    }
+
+    private static void failIfAnyAnnotationsOfTypesPresent(AnnotatedElement element,
+                                                           AnnotationIndex index,
+                                                           Class<? extends Annotation>[] types) {
+        var failures = new ArrayList<AssertionError>();
+
+        for (var type : types) {
+            if (LookupInstrumentation.get(element, index, type) != null) {
+                failures.add(Failures.instance().failure("Unexpected annotation of type " + type.getSimpleName()));
+            }
+        }
+
+        failIfAny(failures, "Unexpected annotations");
+    }
+
+    private static void failIfAny(List<AssertionError> failures, String description) {
+        if (!failures.isEmpty()) {
+            throw new AssertionErrorCreator().multipleAssertionsError(new TextDescription(description), failures);
+        }
+    }
+
+    private static <T extends Annotation> T findAnnotationOfTypeOrFail(AnnotatedElement element,
+                                                                       AnnotationIndex index,
+                                                                       Class<T> type) {
+        return failIfNull(LookupInstrumentation.get(element, index, type), type);
+    }
+
+    private static <T extends Annotation> List<T> failIfEmpty(List<T> instances, Class<T> type) {
+        if (instances.isEmpty()) {
+            throw Failures.instance().failure("Cannot find annotation of type " + type.getSimpleName());
+        }
+
+        return instances;
+    }
+
+    private static <T extends Annotation> T failIfNull(T instance, Class<T> type) {
+        if (instance == null) {
+            throw Failures.instance().failure("Cannot find annotation of type " + type.getSimpleName());
+        }
 
-        return type.cast(instance);
+        return instance;
     }
 
 }
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The attributes of an annotation type, resolved once into a table of accessors and default values.
+ * <p>
+ * Each attribute's accessor is unreflected into a {@code MethodHandle} and its default value is read once, so
+ * comparing attributes never repeats a reflective method lookup. Tables are cached per annotation type via
+ * {@link ClassValue}. Attributes are ordered by name.
+ * </p>
+ * <p>
+ * As with the JDK's own annotation parser, only public, abstract, non-synthetic methods without parameters are
+ * attributes; static or synthetic members of an annotation type, such as lambdas in a constant's initializer or
+ * those added by coverage agents, are not.
+ * </p>
+ */
+final class AnnotationAttributes {
+
+    private static final MethodType ACCESSOR = MethodType.methodType(Object.class, Annotation.class);
+
+    private static final ClassValue<AnnotationAttributes> TABLES = new ClassValue<>() {
+        @Override
+        protected AnnotationAttributes computeValue(Class<?> type) {
+            return new AnnotationAttributes(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final MethodHandle[] accessors;
+    private final Object[] defaults;
+    private final Map<String, Integer> indexes;
+
+    private AnnotationAttributes(Class<?> type) {
+        var methods = Arrays.stream(type.getDeclaredMethods())
+                            .filter(AnnotationAttributes::isAttribute)
+                            .sorted(Comparator.comparing(Method::getName))
+                            .toArray(Method[]::new);
+
+        this.type = type;
+        this.names = new String[methods.length];
+        this.types = new Class<?>[methods.length];
+        this.accessors = new MethodHandle[methods.length];
+        this.defaults = new Object[methods.length];
+        this.indexes = new HashMap<>();
+
+        for (var i = 0; i < methods.length; i++) {
+            names[i] = methods[i].getName();
+            types[i] = methods[i].getReturnType();
+            accessors[i] = accessor(methods[i]);
+            defaults[i] = methods[i].getDefaultValue();
+            indexes.put(names[i], i);
+        }
+    }
+
+    /**
+     * @param type an {@code Annotation} type
+     * @return the attribute table of {@code type}
+     */
+    static AnnotationAttributes of(Class<? extends Annotation> type) {
+        return TABLES.get(type);
+    }
+
+    /**
+     * @return the number of attributes
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @param name an attribute name
+     * @return the index of the attribute named {@code name}, or {@code -1} if there is none
+     */
+    int indexOf(String name) {
+        var index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param index an attribute index
+     * @return the name of the attribute
+     */
+    String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index an attribute index
+     * @return the declared type of the attribute e.g. {@code boolean} or {@code Class[]}
+     */
+    Class<?> type(int index) {
+        return types[index];
+    }
+
+    /**
+     * @param index an attribute index
+     * @return the default value of the attribute, or {@code null} if it has none; arrays must not be modified
+     */
+    Object defaultValue(int index) {
+        return defaults[index];
+    }
+
+    /**
+     * Converts a number to the declared type of a numeric attribute, if it can be without loss, so that e.g. an
+     * {@code Integer} can be compared with a {@code long} attribute.
+     *
+     * @param index an attribute index
+     * @param value an expected value of the attribute
+     * @return {@code value} as the wrapper of the attribute's type, or {@code value} if it is not a number or cannot
+     *         be converted exactly
+     */
+    Object coerce(int index, Object value) {
+        var type = types[index];
+        if (!(value instanceof Number) || !type.isPrimitive()) {
+            return value;
+        }
+
+        var number = (Number) value;
+        Number converted;
+        if (type == long.class) {
+            converted = number.longValue();
+        } else if (type == int.class) {
+            converted = number.intValue();
+        } else if (type == short.class) {
+            converted = number.shortValue();
+        } else if (type == byte.class) {
+            converted = number.byteValue();
+        } else if (type == double.class) {
+            converted = number.doubleValue();
+        } else if (type == float.class) {
+            converted = number.floatValue();
+        } else {
+            return value;
+        }
+        return isExact(number, converted) ? converted : value;
+    }
+
+    /**
+     * Returns the value of an attribute of an annotation.
+     * <p>
+     * The values of a {@link SyntheticAnnotation} are returned directly from its table, so arrays are neither cloned
+     * nor copied and must not be modified.
+     * </p>
+     *
+     * @param annotation an instance of this table's annotation type
+     * @param index      an attribute index
+     * @return the value of the attribute on {@code annotation}
+     */
+    Object value(Annotation annotation, int index) {
+        var synthetic = SyntheticAnnotation.handlerOf(annotation);
+        if (synthetic != null) {
+            return synthetic.value(index);
+        }
+        try {
+            return accessors[index].invokeExact(annotation);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isAttribute(Method method) {
+        var modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers)
+               && Modifier.isAbstract(modifiers)
+               && !method.isSynthetic()
+               && method.getParameterCount() == 0;
+    }
+
+    private static boolean isExact(Number number, Number converted) {
+        var value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return Double.compare(value, converted.doubleValue()) == 0;
+        }
+        try {
+            return new BigDecimal(number.toString()).compareTo(new BigDecimal(converted.toString())) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private MethodHandle accessor(Method method) {
+        try {
+            method.trySetAccessible();
+            return MethodHandles.lookup().unreflect(method).asType(ACCESSOR);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                    "Cannot access attribute " + method.getName() + " of annotation " + type.getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An immutable set of annotation types, stored as a bitset of interned type IDs.
+ * <p>
+ * Each annotation type is interned to a small {@code int} ID on first use via a {@link ClassValue}, which needs no
+ * lock once computed, so set operations are word-wise bit operations with no boxing or {@code equals} calls.
+ * </p>
+ * <p>
+ * The lowest free ID is always taken, and an ID is freed once its type is unloaded, so bitsets stay as small as the
+ * number of live annotation types however many class loaders come and go. A type can only be unloaded with every
+ * class annotated with it, so no cached set of a live element can hold a freed ID.
+ * </p>
+ */
+final class AnnotationBits {
+
+    private static final ClassValue<Id> IDS = new ClassValue<>() {
+        @Override
+        protected Id computeValue(Class<?> type) {
+            return Id.allocate();
+        }
+    };
+
+    private static final long[] NO_WORDS = new long[0];
+
+    static final AnnotationBits EMPTY = new AnnotationBits(NO_WORDS);
+
+    private final long[] words;
+
+    private AnnotationBits(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * @param types annotation types
+     * @return the set of {@code types}
+     */
+    static AnnotationBits of(Collection<Class<? extends Annotation>> types) {
+        var words = NO_WORDS;
+        for (var type : types) {
+            var id = id(type);
+            if (id >>> 6 >= words.length) {
+                words = Arrays.copyOf(words, (id >>> 6) + 1);
+            }
+            words[id >>> 6] |= 1L << id;
+        }
+        return words.length == 0 ? EMPTY : new AnnotationBits(words);
+    }
+
+    /**
+     * @param type an annotation type
+     * @return the interned ID of {@code type}
+     */
+    static int id(Class<? extends Annotation> type) {
+        return IDS.get(type).value;
+    }
+
+    /**
+     * @param type an annotation type
+     * @return {@code true} if {@code type} is in this set
+     */
+    boolean contains(Class<? extends Annotation> type) {
+        var id = id(type);
+        return id >>> 6 < words.length && (words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * @param other another set
+     * @return {@code true} if this set and {@code other} have any type in common
+     */
+    boolean intersects(AnnotationBits other) {
+        var length = Math.min(words.length, other.words.length);
+        for (var i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param other another set
+     * @return {@code true} if this set and {@code other} hold exactly the same types
+     */
+    boolean sameAs(AnnotationBits other) {
+        var length = Math.max(words.length, other.words.length);
+        for (var i = 0; i < length; i++) {
+            if (word(i) != other.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long word(int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+
+    /**
+     * An interned ID, only reachable from the {@code ClassValue} of its type, so it is collected when its type is
+     * unloaded or when it loses a race to intern a type.
+     */
+    private static final class Id {
+
+        private static final BitSet ALLOCATED = new BitSet();
+        private static final Set<Release> RELEASES = new HashSet<>();
+        private static final ReferenceQueue<Id> COLLECTED = new ReferenceQueue<>();
+
+        private final int value;
+
+        private Id(int value) {
+            this.value = value;
+        }
+
+        private static Id allocate() {
+            synchronized (ALLOCATED) {
+                for (var collected = COLLECTED.poll(); collected != null; collected = COLLECTED.poll()) {
+                    var release = (Release) collected;
+                    RELEASES.remove(release);
+                    ALLOCATED.clear(release.value);
+                }
+
+                var id = new Id(ALLOCATED.nextClearBit(0));
+                ALLOCATED.set(id.value);
+                RELEASES.add(new Release(id));
+                return id;
+            }
+        }
+
+    }
+
+    private static final class Release extends WeakReference<Id> {
+
+        private final int value;
+
+        private Release(Id id) {
+            super(id, Id.COLLECTED);
+            this.value = id.value;
+        }
+
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * A memoized, per-element index of annotations keyed by annotation type.
+ * <p>
+ * Indexes are cached against the owning {@code Class} via {@link ClassValue}, so they live exactly as long as
+ * the class itself and never pin a {@code ClassLoader} once the class becomes unreachable.
+ * </p>
+ */
+final class AnnotationIndex {
+
+    private static final ClassValue<AnnotationIndex> CLASS_INDEXES = new ClassValue<>() {
+        @Override
+        protected AnnotationIndex computeValue(Class<?> type) {
+            return new AnnotationIndex(type.getAnnotations());
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<AnnotatedElement, AnnotationIndex>> MEMBER_INDEXES =
+            new ClassValue<>() {
+                @Override
+                protected ConcurrentMap<AnnotatedElement, AnnotationIndex> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<Executable, List<AnnotationIndex>>> PARAMETER_INDEXES =
+            new ClassValue<>() {
+                @Override
+                protected ConcurrentMap<Executable, List<AnnotationIndex>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<Parameter, Integer>> PARAMETER_POSITIONS =
+            new ClassValue<>() {
+                @Override
+                protected ConcurrentMap<Parameter, Integer> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final List<Annotation> annotations;
+    private final Map<Class<? extends Annotation>, Annotation> byType;
+    private final AnnotationBits types;
+    private volatile Map<Class<? extends Annotation>, List<?>> repeated = Map.of();
+
+    private AnnotationIndex(Annotation[] annotations) {
+        var byType = new LinkedHashMap<Class<? extends Annotation>, Annotation>();
+        for (var annotation : annotations) {
+            byType.putIfAbsent(annotation.annotationType(), annotation);
+        }
+        this.annotations = List.copyOf(byType.values());
+        this.byType = Collections.unmodifiableMap(byType);
+        this.types = AnnotationBits.of(byType.keySet());
+    }
+
+    /**
+     * Returns the index for a {@code Class}, computing it on first use.
+     *
+     * @param clazz the class to index
+     * @return the annotations present on {@code clazz}
+     */
+    static AnnotationIndex of(Class<?> clazz) {
+        return CLASS_INDEXES.get(clazz);
+    }
+
+    /**
+     * Returns the index for a {@code Member} (e.g. {@code Method} or {@code Field}), computing it on first use.
+     * <p>
+     * A {@code Field} is indexed with both its declaration annotations and the annotations of its declared type.
+     * </p>
+     *
+     * @param member the member to index
+     * @param <M>    type of member
+     * @return the annotations present on {@code member}
+     */
+    static <M extends Member & AnnotatedElement> AnnotationIndex of(M member) {
+        var indexes = MEMBER_INDEXES.get(member.getDeclaringClass());
+        var index = indexes.get(member);
+        return index != null ? index : indexes.computeIfAbsent(member, AnnotationIndex::index);
+    }
+
+    /**
+     * Returns the index for a {@code Parameter}, computing the indexes of every parameter of its executable on
+     * first use.
+     *
+     * @param parameter the parameter to index
+     * @return the annotations present on {@code parameter} or its declared type
+     * @see #parametersOf(Executable)
+     */
+    static AnnotationIndex of(Parameter parameter) {
+        return parametersOf(parameter.getDeclaringExecutable()).get(positionOf(parameter));
+    }
+
+    /**
+     * Returns the position of a {@code Parameter} within its executable, computing it on first use.
+     * <p>
+     * {@code Parameter} does not expose its position, and {@link Executable#getParameters()} copies the parameters
+     * on every call, so positions are cached against the declaring class as with indexes.
+     * </p>
+     *
+     * @param parameter the parameter to locate
+     * @return the position of {@code parameter} within {@link Parameter#getDeclaringExecutable()}
+     */
+    static int positionOf(Parameter parameter) {
+        var positions = PARAMETER_POSITIONS.get(parameter.getDeclaringExecutable().getDeclaringClass());
+        var position = positions.get(parameter);
+        return position != null
+                ? position
+                : positions.computeIfAbsent(
+                        parameter, p -> Arrays.asList(p.getDeclaringExecutable().getParameters()).indexOf(p));
+    }
+
+    /**
+     * Returns the indexes for every parameter of an {@code Executable}, computing them on first use.
+     * <p>
+     * The parameter annotations and annotated parameter types are each fetched once per executable and indexed by
+     * position, rather than reflected upon per {@code Parameter}. As with a {@code Field}, each parameter is indexed
+     * with both its declaration annotations and the annotations of its declared type.
+     * </p>
+     * <p>
+     * Annotations are aligned with the parameters they are declared on, even where a constructor has implicit or
+     * synthetic parameters that reflection does not account for, such as the outer instance and captured variables of
+     * a local class, or the name and ordinal of an enum constant.
+     * </p>
+     *
+     * @param executable the method or constructor whose parameters are indexed
+     * @return the index of each parameter of {@code executable}, by position
+     */
+    static List<AnnotationIndex> parametersOf(Executable executable) {
+        var indexes = PARAMETER_INDEXES.get(executable.getDeclaringClass());
+        var index = indexes.get(executable);
+        return index != null ? index : indexes.computeIfAbsent(executable, AnnotationIndex::indexParameters);
+    }
+
+    private static List<AnnotationIndex> indexParameters(Executable executable) {
+        var annotations = executable.getParameterAnnotations();
+        var types = executable.getAnnotatedParameterTypes();
+        var count = executable.getParameterCount();
+
+        // Both arrays are indexed by declared parameter where reflection does not account for leading parameters,
+        // except that getParameterAnnotations() is padded to every parameter where it can be
+        var leading = unalignedLeadingParameters(executable, annotations.length);
+        var annotationOffset = annotations.length == count ? 0 : leading;
+
+        var indexes = new ArrayList<AnnotationIndex>(count);
+        for (var i = 0; i < count; i++) {
+            indexes.add(new AnnotationIndex(Stream.concat(
+                            Arrays.stream(at(annotations, i - annotationOffset)),
+                            Arrays.stream(i >= leading && i - leading < types.length
+                                                  ? types[i - leading].getAnnotations()
+                                                  : NO_ANNOTATIONS))
+                    .distinct()
+                    .toArray(Annotation[]::new)));
+        }
+        return List.copyOf(indexes);
+    }
+
+    private static Annotation[] at(Annotation[][] annotations, int index) {
+        return index >= 0 && index < annotations.length ? annotations[index] : NO_ANNOTATIONS;
+    }
+
+    /**
+     * Counts the leading implicit or synthetic parameters of a constructor for which reflection returns annotations
+     * by declared parameter rather than by position.
+     * <p>
+     * Reflection already aligns the outer instance parameter of a member inner class. Otherwise, they are counted
+     * from the {@code MethodParameters} attribute if compiled with {@code -parameters}, else are the name and ordinal
+     * of an enum, or for a local or anonymous class, the outer instance if the parameters missing from the
+     * {@code RuntimeVisibleParameterAnnotations} attribute are not all captured variables.
+     * </p>
+     *
+     * @param annotated the number of parameters returned by {@link Executable#getParameterAnnotations()}
+     */
+    private static int unalignedLeadingParameters(Executable executable, int annotated) {
+        var declaringClass = executable.getDeclaringClass();
+        if (!(executable instanceof Constructor)
+            || (declaringClass.isMemberClass() && !Modifier.isStatic(declaringClass.getModifiers()))) {
+            return 0;
+        }
+
+        var parameters = executable.getParameters();
+        if (parameters.length > 0 && parameters[0].isNamePresent()) {
+            var leading = 0;
+            while (leading < parameters.length
+                   && (parameters[leading].isImplicit() || parameters[leading].isSynthetic())) {
+                leading++;
+            }
+            return leading;
+        }
+
+        if (declaringClass.isEnum()) {
+            return 2;
+        }
+        if (declaringClass.isLocalClass() || declaringClass.isAnonymousClass()) {
+            var captured = 0;
+            for (var field : declaringClass.getDeclaredFields()) {
+                if (field.isSynthetic() && field.getName().startsWith("val$")) {
+                    captured++;
+                }
+            }
+            return Math.max(0, parameters.length - annotated - captured);
+        }
+        return 0;
+    }
+
+    private static AnnotationIndex index(AnnotatedElement element) {
+        if (element instanceof Field) {
+            var field = (Field) element;
+            return new AnnotationIndex(Stream.concat(
+                            Arrays.stream(field.getAnnotations()),
+                            Arrays.stream(field.getAnnotatedType().getAnnotations()))
+                    .distinct()
+                    .toArray(Annotation[]::new));
+        }
+        return new AnnotationIndex(element.getAnnotations());
+    }
+
+    /**
+     * Returns the indexed annotation of a given type.
+     *
+     * @param type the {@code Annotation} type
+     * @param <T>  type of {@code Annotation}
+     * @return the annotation of type {@code type}, or {@code null} if none is present
+     */
+    <T extends Annotation> T get(Class<T> type) {
+        return type.cast(byType.get(type));
+    }
+
+    /**
+     * @return the types of every indexed annotation, as a bitset
+     */
+    AnnotationBits types() {
+        return types;
+    }
+
+    /**
+     * Returns every instance of a {@link java.lang.annotation.Repeatable} annotation type, memoized per type.
+     * <p>
+     * Reading the {@code value()} of a container annotation clones its array, so unwrapping on every call would
+     * allocate in proportion to the number of assertions made by every thread. Each list is computed once and
+     * published by replacing an immutable map; racing threads may compute the same list twice, but never block.
+     * </p>
+     *
+     * @param type the repeatable {@code Annotation} type
+     * @param <T>  type of {@code Annotation}
+     * @return the instances of {@code type}, directly present or held by its container, in declaration order
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Annotation> List<T> repeated(Class<T> type) {
+        var found = repeated.get(type);
+        if (found == null) {
+            found = List.copyOf(RepeatableAnnotations.find(this, type));
+            var updated = new HashMap<>(repeated);
+            updated.put(type, found);
+            repeated = Map.copyOf(updated);
+        }
+        return (List<T>) found;
+    }
+
+    /**
+     * @return every indexed annotation, in declaration order
+     */
+    List<Annotation> annotations() {
+        return annotations;
+    }
+
+}
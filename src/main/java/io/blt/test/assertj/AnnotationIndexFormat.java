@@ -0,0 +1,348 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The binary format of the annotation index written by {@code blt-assertj-processor} and read by
+ * {@link IndexedAnnotations}.
+ * <p>
+ * The format is internal to this library and its processor, and may change between releases. The processor has its
+ * own encoder, which its tests check against {@link IndexedAnnotations}, so this class is not part of the API.
+ * </p>
+ * <pre>
+ * index      := u4 magic ('BLTI') u2 version u4 count string* u4 count (u4 name, u4 offset)* class*
+ * string     := modified UTF-8 as written by DataOutput.writeUTF
+ * class      := annotations u2 count member* u2 count member*
+ * member     := u4 name u4 descriptor annotations
+ * annotations:= u2 count annotation*
+ * annotation := u4 type u2 count (u4 name, value)*
+ * value      := u1 tag (B C I S: i4 | Z: u1 | J: i8 | F: f4 | D: f8 | s e c: u4 string | @: annotation
+ *               | [: u2 count value*)
+ * </pre>
+ * Strings are referenced by their index in the string table, and class offsets are relative to the first class.
+ */
+final class AnnotationIndexFormat {
+
+    /**
+     * The class path resource holding an index.
+     */
+    static final String INDEX_RESOURCE = "META-INF/blt-assertj/annotations.idx";
+
+    static final int MAGIC = 0x424C5449;
+    static final int VERSION = 1;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+    private final DataOutputStream stringTable = new DataOutputStream(stringBytes);
+    private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+    private AnnotationIndexFormat() {
+    }
+
+    /**
+     * Encodes an index.
+     *
+     * @param classes the classes to index, in the order they are written
+     * @param out     the stream to write to, which is flushed but not closed
+     * @throws IOException if the index cannot be written
+     */
+    static void write(Collection<IndexedClass> classes, OutputStream out) throws IOException {
+        var writer = new AnnotationIndexFormat();
+
+        var names = new int[classes.size()];
+        var offsets = new int[classes.size()];
+        var i = 0;
+        for (var indexed : classes) {
+            names[i] = writer.string(indexed.name);
+            offsets[i++] = writer.body.size();
+            writer.writeClass(indexed);
+        }
+
+        var data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(writer.strings.size());
+        writer.stringBytes.writeTo(data);
+        data.writeInt(classes.size());
+        for (i = 0; i < names.length; i++) {
+            data.writeInt(names[i]);
+            data.writeInt(offsets[i]);
+        }
+        writer.bodyBytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Decodes every class of an index.
+     *
+     * @param in the stream to read, which is not closed
+     * @return the indexed classes, in the order they were written
+     * @throws IOException              if the index cannot be read
+     * @throws IllegalArgumentException if the index is malformed
+     */
+    static List<IndexedClass> read(InputStream in) throws IOException {
+        var reader = new AnnotationIndexReader(ByteBuffer.wrap(in.readAllBytes()));
+        var classes = new ArrayList<IndexedClass>();
+        for (var name : reader.classNames()) {
+            classes.add(reader.decode(name));
+        }
+        return classes;
+    }
+
+    private void writeClass(IndexedClass indexed) throws IOException {
+        writeAnnotations(indexed.annotations);
+
+        body.writeShort(indexed.fields.size());
+        for (var field : indexed.fields) {
+            body.writeInt(string(field.name));
+            body.writeInt(string(field.descriptor));
+            writeAnnotations(field.annotations);
+        }
+
+        body.writeShort(indexed.methods.size());
+        for (var method : indexed.methods) {
+            body.writeInt(string(method.name));
+            body.writeInt(string(method.descriptor));
+            writeAnnotations(method.annotations);
+        }
+    }
+
+    private void writeAnnotations(List<IndexedAnnotation> annotations) throws IOException {
+        body.writeShort(annotations.size());
+        for (var annotation : annotations) {
+            writeAnnotation(annotation);
+        }
+    }
+
+    private void writeAnnotation(IndexedAnnotation annotation) throws IOException {
+        body.writeInt(string(annotation.type));
+        body.writeShort(annotation.attributes.size());
+        for (var attribute : annotation.attributes.entrySet()) {
+            body.writeInt(string(attribute.getKey()));
+            writeValue(attribute.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(IndexedValue value) throws IOException {
+        body.writeByte(value.tag);
+        switch (value.tag) {
+            case 'B':
+                body.writeInt((Byte) value.value);
+                break;
+            case 'C':
+                body.writeInt((Character) value.value);
+                break;
+            case 'S':
+                body.writeInt((Short) value.value);
+                break;
+            case 'I':
+                body.writeInt((Integer) value.value);
+                break;
+            case 'Z':
+                body.writeBoolean((Boolean) value.value);
+                break;
+            case 'J':
+                body.writeLong((Long) value.value);
+                break;
+            case 'F':
+                body.writeFloat((Float) value.value);
+                break;
+            case 'D':
+                body.writeDouble((Double) value.value);
+                break;
+            case 's':
+            case 'e':
+            case 'c':
+                body.writeInt(string((String) value.value));
+                break;
+            case '@':
+                writeAnnotation((IndexedAnnotation) value.value);
+                break;
+            case '[':
+                var values = (List<IndexedValue>) value.value;
+                body.writeShort(values.size());
+                for (var element : values) {
+                    writeValue(element);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown element value tag " + value.tag);
+        }
+    }
+
+    private int string(String value) throws IOException {
+        var index = strings.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.put(value, index);
+            stringTable.writeUTF(value);
+        }
+        return index;
+    }
+
+    /**
+     * An indexed class, its annotations and those of its fields and methods.
+     */
+    static final class IndexedClass {
+
+        final String name;
+        final List<IndexedAnnotation> annotations;
+        final List<IndexedMember> fields;
+        final List<IndexedMember> methods;
+
+        /**
+         * @param name        the binary name of the class
+         * @param annotations the annotations of the class
+         * @param fields      the fields of the class
+         * @param methods     the methods and constructors of the class
+         */
+        IndexedClass(String name, List<IndexedAnnotation> annotations,
+                            List<IndexedMember> fields, List<IndexedMember> methods) {
+            this.name = name;
+            this.annotations = annotations;
+            this.fields = fields;
+            this.methods = methods;
+        }
+
+        /**
+         * @return the binary name of the class e.g. {@code "com.acme.Outer$Inner"}
+         */
+        String name() {
+            return name;
+        }
+
+    }
+
+    /**
+     * An indexed field, method or constructor.
+     */
+    static final class IndexedMember {
+
+        final String name;
+        final String descriptor;
+        final List<IndexedAnnotation> annotations;
+
+        /**
+         * @param name        the name of the member, or {@code "<init>"} for a constructor
+         * @param descriptor  the JVM descriptor of the member
+         * @param annotations the annotations of the member
+         */
+        IndexedMember(String name, String descriptor, List<IndexedAnnotation> annotations) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.annotations = annotations;
+        }
+
+    }
+
+    /**
+     * An indexed annotation, holding only those attributes explicitly set where it is used.
+     */
+    static final class IndexedAnnotation {
+
+        final String type;
+        final Map<String, IndexedValue> attributes;
+
+        /**
+         * @param type       the binary name of the annotation type
+         * @param attributes the explicitly set attributes, in declaration order
+         */
+        IndexedAnnotation(String type, Map<String, IndexedValue> attributes) {
+            this.type = type;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexedAnnotation)) {
+                return false;
+            }
+            var other = (IndexedAnnotation) o;
+            return type.equals(other.type) && attributes.equals(other.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, attributes);
+        }
+
+    }
+
+    /**
+     * An indexed attribute value, tagged as in a class file's {@code element_value}.
+     */
+    static final class IndexedValue {
+
+        final char tag;
+        final Object value;
+
+        /**
+         * @param tag   the tag e.g. {@code 'I'}, {@code 'e'} or {@code '['}
+         * @param value the boxed primitive, the string, enum constant name or binary class name, the
+         *              {@link IndexedAnnotation} or the {@code List} of {@link IndexedValue}
+         */
+        IndexedValue(char tag, Object value) {
+            this.tag = tag;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexedValue)) {
+                return false;
+            }
+            var other = (IndexedValue) o;
+            return tag == other.tag && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tag, value);
+        }
+
+    }
+
+}
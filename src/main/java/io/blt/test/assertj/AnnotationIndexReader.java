@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedAnnotation;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedClass;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedMember;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedValue;
+import static io.blt.test.assertj.AnnotationIndexFormat.MAGIC;
+import static io.blt.test.assertj.AnnotationIndexFormat.VERSION;
+import static io.blt.test.assertj.ClassFileReader.decodeModifiedUtf8;
+
+/**
+ * Reads the binary annotation index described by {@link AnnotationIndexFormat}.
+ * <p>
+ * Only the header, string offsets and class offsets are read up front; a class is decoded from the buffer when it is
+ * first requested, and strings are decoded once and then shared by every class.
+ * </p>
+ */
+final class AnnotationIndexReader {
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final String[] strings;
+    private final Map<String, Integer> classOffsets;
+
+    AnnotationIndexReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+
+        try {
+            if (this.buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an annotation index");
+            }
+            var version = u2();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported annotation index version " + version);
+            }
+
+            stringOffsets = new int[this.buffer.getInt()];
+            strings = new String[stringOffsets.length];
+            for (var i = 0; i < stringOffsets.length; i++) {
+                stringOffsets[i] = this.buffer.position();
+                seek(this.buffer.position() + 2 + u2());
+            }
+
+            var count = this.buffer.getInt();
+            var names = new int[count];
+            var offsets = new int[count];
+            for (var i = 0; i < count; i++) {
+                names[i] = this.buffer.getInt();
+                offsets[i] = this.buffer.getInt();
+            }
+
+            var body = this.buffer.position();
+            classOffsets = new LinkedHashMap<>(count * 2);
+            for (var i = 0; i < count; i++) {
+                classOffsets.put(string(names[i]), body + offsets[i]);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or malformed annotation index", e);
+        }
+    }
+
+    Set<String> classNames() {
+        return Collections.unmodifiableSet(classOffsets.keySet());
+    }
+
+    /**
+     * @return the indexed class, or {@code null} if it is not in this index
+     */
+    ClassFile read(String className) {
+        var indexed = decode(className);
+        if (indexed == null) {
+            return null;
+        }
+
+        return new ClassFile(
+                className, classFileAnnotations(indexed.annotations),
+                classFileMembers(indexed.fields), classFileMembers(indexed.methods));
+    }
+
+    /**
+     * @return the indexed class as encoded, or {@code null} if it is not in this index
+     */
+    IndexedClass decode(String className) {
+        var offset = classOffsets.get(className);
+        if (offset == null) {
+            return null;
+        }
+
+        try {
+            var in = buffer.duplicate().position(offset);
+            var annotations = readAnnotations(in);
+            var fields = readMembers(in);
+            var methods = readMembers(in);
+            return new IndexedClass(className, annotations, fields, methods);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or malformed annotation index", e);
+        }
+    }
+
+    private List<IndexedMember> readMembers(ByteBuffer in) {
+        var members = new IndexedMember[u2(in)];
+        for (var i = 0; i < members.length; i++) {
+            var name = string(in.getInt());
+            var descriptor = string(in.getInt());
+            members[i] = new IndexedMember(name, descriptor, readAnnotations(in));
+        }
+        return List.of(members);
+    }
+
+    private List<IndexedAnnotation> readAnnotations(ByteBuffer in) {
+        var count = u2(in);
+        if (count == 0) {
+            return List.of();
+        }
+
+        var annotations = new IndexedAnnotation[count];
+        for (var i = 0; i < count; i++) {
+            annotations[i] = readAnnotation(in);
+        }
+        return List.of(annotations);
+    }
+
+    private IndexedAnnotation readAnnotation(ByteBuffer in) {
+        var type = string(in.getInt());
+        var count = u2(in);
+        if (count == 0) {
+            return new IndexedAnnotation(type, Collections.emptyMap());
+        }
+
+        var attributes = new LinkedHashMap<String, IndexedValue>();
+        for (var i = 0; i < count; i++) {
+            var name = string(in.getInt());
+            attributes.put(name, readValue(in));
+        }
+        return new IndexedAnnotation(type, Collections.unmodifiableMap(attributes));
+    }
+
+    private IndexedValue readValue(ByteBuffer in) {
+        var tag = (char) (in.get() & 0xFF);
+        switch (tag) {
+            case 'B':
+                return new IndexedValue(tag, (byte) in.getInt());
+            case 'C':
+                return new IndexedValue(tag, (char) in.getInt());
+            case 'S':
+                return new IndexedValue(tag, (short) in.getInt());
+            case 'Z':
+                return new IndexedValue(tag, in.get() != 0);
+            case 'I':
+                return new IndexedValue(tag, in.getInt());
+            case 'J':
+                return new IndexedValue(tag, in.getLong());
+            case 'F':
+                return new IndexedValue(tag, in.getFloat());
+            case 'D':
+                return new IndexedValue(tag, in.getDouble());
+            case 's':
+            case 'e':
+            case 'c':
+                return new IndexedValue(tag, string(in.getInt()));
+            case '@':
+                return new IndexedValue(tag, readAnnotation(in));
+            case '[':
+                var values = new IndexedValue[u2(in)];
+                for (var i = 0; i < values.length; i++) {
+                    values[i] = readValue(in);
+                }
+                return new IndexedValue(tag, List.of(values));
+            default:
+                throw new IllegalArgumentException("Unknown element value tag " + tag);
+        }
+    }
+
+    private static List<ClassFileMember> classFileMembers(List<IndexedMember> members) {
+        var classFileMembers = new ClassFileMember[members.size()];
+        for (var i = 0; i < classFileMembers.length; i++) {
+            var member = members.get(i);
+            classFileMembers[i] = new ClassFileMember(
+                    member.name, member.descriptor, classFileAnnotations(member.annotations));
+        }
+        return List.of(classFileMembers);
+    }
+
+    private static List<ClassFileAnnotation> classFileAnnotations(List<IndexedAnnotation> annotations) {
+        if (annotations.isEmpty()) {
+            return List.of();
+        }
+
+        var classFileAnnotations = new ClassFileAnnotation[annotations.size()];
+        for (var i = 0; i < classFileAnnotations.length; i++) {
+            classFileAnnotations[i] = classFileAnnotation(annotations.get(i));
+        }
+        return List.of(classFileAnnotations);
+    }
+
+    private static ClassFileAnnotation classFileAnnotation(IndexedAnnotation annotation) {
+        if (annotation.attributes.isEmpty()) {
+            return new ClassFileAnnotation(annotation.type, Collections.emptyMap());
+        }
+
+        var attributes = new LinkedHashMap<String, Object>();
+        annotation.attributes.forEach((name, value) -> attributes.put(name, classFileValue(value)));
+        return new ClassFileAnnotation(annotation.type, Collections.unmodifiableMap(attributes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object classFileValue(IndexedValue value) {
+        switch (value.tag) {
+            case '@':
+                return classFileAnnotation((IndexedAnnotation) value.value);
+            case '[':
+                var values = (List<IndexedValue>) value.value;
+                var elements = new Object[values.size()];
+                for (var i = 0; i < elements.length; i++) {
+                    elements[i] = classFileValue(values.get(i));
+                }
+                return List.of(elements);
+            default:
+                return value.value;
+        }
+    }
+
+    private String string(int index) {
+        var string = strings[index];
+        if (string == null) {
+            var offset = stringOffsets[index];
+            string = decodeModifiedUtf8(buffer, offset + 2, buffer.getShort(offset) & 0xFFFF);
+            strings[index] = string;
+        }
+        return string;
+    }
+
+    private int u2() {
+        return u2(buffer);
+    }
+
+    private static int u2(ByteBuffer in) {
+        return in.getShort() & 0xFFFF;
+    }
+
+    private void seek(int position) {
+        if (position > buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(position);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.AnnotatedElement;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event recording a single annotation lookup made by {@link AnnotationAssertions}.
+ * <p>
+ * Only referenced when the {@code jdk.jfr} module is present. An event is only allocated once JFR is initialized and a
+ * recording has enabled it, and its type is only registered with JFR at that point.
+ * </p>
+ */
+@Name("io.blt.test.assertj.AnnotationLookup")
+@Label("Annotation Lookup")
+@Category({"blt-assertj"})
+@Description("An annotation lookup made by an assertion")
+@StackTrace(false)
+final class AnnotationLookupEvent extends jdk.jfr.Event {
+
+    @Label("Element")
+    String element;
+
+    @Label("Annotation Type")
+    Class<?> annotationType;
+
+    @Label("Found")
+    boolean found;
+
+    /**
+     * @return a begun event, or {@code null} if no recording has enabled it
+     */
+    static AnnotationLookupEvent beginIfEnabled() {
+        if (!FlightRecorder.isInitialized() || !Registration.TYPE.isEnabled()) {
+            return null;
+        }
+
+        var event = new AnnotationLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object begun, AnnotatedElement element, Class<?> type, boolean found) {
+        var event = (AnnotationLookupEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.element = element.toString();
+            event.annotationType = type;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    private static final class Registration {
+
+        private static final EventType TYPE = EventType.getEventType(AnnotationLookupEvent.class);
+
+    }
+
+}
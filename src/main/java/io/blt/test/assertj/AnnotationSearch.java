@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+import static io.blt.test.assertj.SearchOption.HIERARCHY;
+import static io.blt.test.assertj.SearchOption.META_ANNOTATIONS;
+
+/**
+ * Finds an annotation on an element as directed by a set of {@link SearchOption}s.
+ */
+final class AnnotationSearch {
+
+    private AnnotationSearch() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    static <T extends Annotation> T find(Class<?> clazz, Class<T> type, SearchOption[] options) {
+        var meta = SearchOption.isSet(META_ANNOTATIONS, options);
+        if (!SearchOption.isSet(HIERARCHY, options)) {
+            return find(AnnotationIndex.of(clazz), type, meta);
+        }
+
+        for (var candidate : TypeHierarchy.of(clazz)) {
+            var instance = find(AnnotationIndex.of(candidate), type, meta);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    static <T extends Annotation> T find(Method method, Class<T> type, SearchOption[] options) {
+        return find(method, method.getDeclaringClass(), type, options);
+    }
+
+    static <T extends Annotation> T find(Method method, Class<?> target, Class<T> type, SearchOption[] options) {
+        TypeHierarchy.requireMember(method, target);
+
+        var meta = SearchOption.isSet(META_ANNOTATIONS, options);
+        if (!SearchOption.isSet(HIERARCHY, options)) {
+            return find(AnnotationIndex.of(method), type, meta);
+        }
+
+        for (var candidate : TypeHierarchy.of(method, target)) {
+            var instance = find(AnnotationIndex.of(candidate), type, meta);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    static <T extends Annotation> T find(Field field, Class<T> type, SearchOption[] options) {
+        return find(AnnotationIndex.of(field), type, SearchOption.isSet(META_ANNOTATIONS, options));
+    }
+
+    static <T extends Annotation> T find(Constructor<?> constructor, Class<T> type, SearchOption[] options) {
+        return find(AnnotationIndex.of(constructor), type, SearchOption.isSet(META_ANNOTATIONS, options));
+    }
+
+    static <T extends Annotation> T find(Parameter parameter, Class<T> type, SearchOption[] options) {
+        var meta = SearchOption.isSet(META_ANNOTATIONS, options);
+        var executable = parameter.getDeclaringExecutable();
+        if (!SearchOption.isSet(HIERARCHY, options) || !(executable instanceof Method)) {
+            return find(AnnotationIndex.of(parameter), type, meta);
+        }
+
+        var position = AnnotationIndex.positionOf(parameter);
+        for (var candidate : TypeHierarchy.of((Method) executable)) {
+            var instance = find(AnnotationIndex.parametersOf(candidate).get(position), type, meta);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    private static <T extends Annotation> T find(AnnotationIndex index, Class<T> type, boolean meta) {
+        return meta ? MetaAnnotations.find(index, type) : index.get(type);
+    }
+
+}
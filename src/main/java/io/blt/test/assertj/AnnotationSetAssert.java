@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Set-style assertions over the types of the annotations present on an element.
+ * <p>
+ * Instances are created via {@code AnnotationAssertions.assertAnnotationsOf(...)}. The annotation types of each
+ * element are held as a bitset of interned IDs, so every check is a handful of word-wise bit operations however many
+ * types are involved.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void isOnlyAServiceAndTransactional() {
+ *     assertAnnotationsOf(NotificationPublisher.class)
+ *             .hasOnlyAnnotations(Service.class, Transactional.class)
+ *             .hasNoneOf(Controller.class, Repository.class);
+ * }
+ * }</pre>
+ */
+public final class AnnotationSetAssert {
+
+    private final AnnotationIndex index;
+
+    AnnotationSetAssert(AnnotationIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Asserts that the element is annotated with every one of the given annotation types and no others.
+     *
+     * @param annotations the expected {@code Annotation} types
+     * @return this assertion object
+     */
+    @SafeVarargs
+    public final AnnotationSetAssert hasOnlyAnnotations(Class<? extends Annotation>... annotations) {
+        var expected = Arrays.asList(annotations);
+        var query = AnnotationBits.of(expected);
+        if (!index.types().sameAs(query)) {
+            var missing = expected.stream().filter(a -> !index.types().contains(a)).collect(Collectors.toList());
+            var unexpected = actualTypes(t -> !query.contains(t));
+
+            throw Failures.instance().failure(String.format(
+                    "Expecting only annotations of types %s but%s%s",
+                    names(expected),
+                    missing.isEmpty() ? "" : " could not find " + names(missing),
+                    unexpected.isEmpty() ? "" : (missing.isEmpty() ? "" : " and") + " found " + names(unexpected)));
+        }
+
+        return this;
+    }
+
+    /**
+     * Asserts that the element is annotated with none of the given annotation types.
+     *
+     * @param annotations the unexpected {@code Annotation} types
+     * @return this assertion object
+     */
+    @SafeVarargs
+    public final AnnotationSetAssert hasNoneOf(Class<? extends Annotation>... annotations) {
+        var query = AnnotationBits.of(Arrays.asList(annotations));
+        if (index.types().intersects(query)) {
+            throw Failures.instance().failure(String.format(
+                    "Expecting none of annotations of types %s but found %s",
+                    names(Arrays.asList(annotations)),
+                    names(actualTypes(query::contains))));
+        }
+
+        return this;
+    }
+
+    /**
+     * Asserts that the element is annotated with at least one of the given annotation types.
+     *
+     * @param annotations the {@code Annotation} types of which at least one is expected
+     * @return this assertion object
+     */
+    @SafeVarargs
+    public final AnnotationSetAssert hasAnyOf(Class<? extends Annotation>... annotations) {
+        if (!index.types().intersects(AnnotationBits.of(Arrays.asList(annotations)))) {
+            throw Failures.instance().failure(String.format(
+                    "Expecting any of annotations of types %s but found none", names(Arrays.asList(annotations))));
+        }
+
+        return this;
+    }
+
+    private List<Class<? extends Annotation>> actualTypes(Predicate<Class<? extends Annotation>> filter) {
+        return index.annotations().stream()
+                    .<Class<? extends Annotation>>map(Annotation::annotationType)
+                    .filter(filter)
+                    .collect(Collectors.toList());
+    }
+
+    private static String names(List<Class<? extends Annotation>> types) {
+        return types.stream().map(Class::getSimpleName).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+}
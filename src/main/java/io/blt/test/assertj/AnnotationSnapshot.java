@@ -0,0 +1,316 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import org.assertj.core.internal.Failures;
+
+/**
+ * A golden file of the annotations of every class, field and method in a package, read from class files.
+ * <p>
+ * As with any class file, only attributes explicitly set where an annotation is used are recorded, so a snapshot
+ * does not capture attributes left at their default value, and changing the default of an annotation type does not
+ * change the snapshots of the classes using it.
+ * </p>
+ * <p>
+ * Each line holds a single annotation: the binary name of its class, the annotated element and the annotation with
+ * its explicitly set attributes, sorted by name e.g.
+ * {@code com.acme.Publisher method send(Ljava/lang/String;)V @com.acme.Transactional(readOnly=true)}.
+ * Lines are ordered by class name and then by the rest of the line, and are generated one class at a time, so a
+ * snapshot is compared against its golden file as a streaming merge of two sorted sequences; memory use depends on
+ * the largest class rather than the size of the package.
+ * </p>
+ */
+final class AnnotationSnapshot {
+
+    /**
+     * The system property that rewrites golden files instead of comparing against them.
+     */
+    static final String UPDATE_PROPERTY = "blt.assertj.updateSnapshots";
+
+    /**
+     * The system property that sets the directory of golden files named by package.
+     */
+    static final String DIRECTORY_PROPERTY = "blt.assertj.snapshotDirectory";
+
+    private static final Path DEFAULT_DIRECTORY = Path.of("src", "test", "resources", "annotation-snapshots");
+
+    private static final int MAX_REPORTED_DIFFERENCES = 50;
+
+    private static final Comparator<String> LINE_ORDER =
+            Comparator.comparing(AnnotationSnapshot::className).thenComparing(AnnotationSnapshot::element);
+
+    private AnnotationSnapshot() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Resolves the golden file of a package in the directory set by {@value #DIRECTORY_PROPERTY}, else in
+     * {@code src/test/resources/annotation-snapshots} of the project directory set by Maven Surefire as
+     * {@code basedir}, else of the working directory.
+     *
+     * @param packageName the root package to snapshot e.g. {@code com.acme.api}
+     * @return the golden file of {@code packageName}
+     */
+    static Path golden(String packageName) {
+        var directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory != null) {
+            return Path.of(directory).resolve(packageName + ".snapshot");
+        }
+
+        var basedir = System.getProperty("basedir");
+        var defaultDirectory = basedir != null ? Path.of(basedir).resolve(DEFAULT_DIRECTORY) : DEFAULT_DIRECTORY;
+        return defaultDirectory.resolve(packageName + ".snapshot");
+    }
+
+    /**
+     * Compares the annotations of a package against a golden file.
+     * <p>
+     * If {@value #UPDATE_PROPERTY} is {@code true}, the golden file is written instead.
+     * </p>
+     *
+     * @param packageName the root package to snapshot e.g. {@code com.acme.api}
+     * @param loader      the {@code ClassLoader} from which class files are read
+     * @param golden      the golden file
+     * @throws AssertionError if the golden file does not exist or the annotations differ from it
+     */
+    static void assertMatches(String packageName, ClassLoader loader, Path golden) {
+        if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+            write(lines(packageName, loader), golden);
+            return;
+        }
+        if (!Files.exists(golden)) {
+            throw Failures.instance().failure(String.format(
+                    "Expecting annotation snapshot %s of classes in %s to exist, run with -D%s=true to write it",
+                    golden, packageName, UPDATE_PROPERTY));
+        }
+
+        try (var reader = Files.newBufferedReader(golden, StandardCharsets.UTF_8)) {
+            failIfAnyDifferences(packageName, golden, diff(iterate(reader), lines(packageName, loader)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read annotation snapshot " + golden, e);
+        }
+    }
+
+    /**
+     * @return the lines of the snapshot of every class in {@code packageName}, generated one class at a time
+     */
+    static Iterator<String> lines(String packageName, ClassLoader loader) {
+        var classNames = ClassPathScanner.scan(packageName, loader).iterator();
+
+        return new Iterator<>() {
+            private Iterator<String> current = List.<String>of().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && classNames.hasNext()) {
+                    current = lines(loader, classNames.next()).iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    private static List<String> lines(ClassLoader loader, String className) {
+        var bytes = classFile(loader, className);
+        if (bytes == null) {
+            return List.of();
+        }
+
+        var classFile = ClassFile.read(ByteBuffer.wrap(bytes));
+        var lines = new ArrayList<String>();
+        add(lines, className, "class", classFile);
+        classFile.fields().forEach(f -> add(lines, className, "field " + f.name() + ":" + f.descriptor(), f));
+        classFile.methods().forEach(m -> add(lines, className, "method " + m.name() + m.descriptor(), m));
+        lines.sort(LINE_ORDER);
+        return lines;
+    }
+
+    private static void add(List<String> lines, String className, String element, ClassFileElement annotated) {
+        for (var annotation : annotated.annotations()) {
+            lines.add(className + " " + element + " " + format(annotation));
+        }
+    }
+
+    private static String format(ClassFileAnnotation annotation) {
+        var formatted = new StringBuilder("@").append(annotation.type());
+        if (!annotation.attributes().isEmpty()) {
+            var separator = "(";
+            for (var attribute : new TreeMap<>(annotation.attributes()).entrySet()) {
+                formatted.append(separator).append(attribute.getKey()).append('=').append(format(attribute.getValue()));
+                separator = ", ";
+            }
+            formatted.append(')');
+        }
+        return formatted.toString();
+    }
+
+    private static String format(Object value) {
+        if (value instanceof String) {
+            return quote((String) value, '"');
+        } else if (value instanceof Character) {
+            return quote(value.toString(), '\'');
+        } else if (value instanceof Long) {
+            return value + "L";
+        } else if (value instanceof Float) {
+            return value + "f";
+        } else if (value instanceof ClassFileAnnotation) {
+            return format((ClassFileAnnotation) value);
+        } else if (value instanceof List) {
+            var formatted = new StringBuilder("{");
+            var separator = "";
+            for (var element : (List<?>) value) {
+                formatted.append(separator).append(format(element));
+                separator = ", ";
+            }
+            return formatted.append('}').toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static String quote(String value, char quote) {
+        var quoted = new StringBuilder(value.length() + 2).append(quote);
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == quote || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20 || c == 0x7F) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append(quote).toString();
+    }
+
+    private static List<String> diff(Iterator<String> expected, Iterator<String> actual) {
+        var differences = new ArrayList<String>();
+        var count = 0;
+        var e = next(expected);
+        var a = next(actual);
+
+        while (e != null || a != null) {
+            var order = e == null ? 1 : a == null ? -1 : LINE_ORDER.compare(e, a);
+            if (order == 0) {
+                e = next(expected);
+                a = next(actual);
+                continue;
+            }
+
+            String difference;
+            if (order <= 0) {
+                difference = "- " + e;
+                e = next(expected);
+            } else {
+                difference = "+ " + a;
+                a = next(actual);
+            }
+            if (count++ < MAX_REPORTED_DIFFERENCES) {
+                differences.add(difference);
+            }
+        }
+
+        if (count > MAX_REPORTED_DIFFERENCES) {
+            differences.add("... and " + (count - MAX_REPORTED_DIFFERENCES) + " more");
+        }
+        return differences;
+    }
+
+    private static void failIfAnyDifferences(String packageName, Path golden, List<String> differences) {
+        if (!differences.isEmpty()) {
+            var message = new StringBuilder(String.format(
+                    "Expecting annotations of classes in %s to match snapshot %s but found differences " +
+                    "(- expected, + actual):", packageName, golden));
+            differences.forEach(d -> message.append(System.lineSeparator()).append("  ").append(d));
+            throw Failures.instance().failure(message.toString());
+        }
+    }
+
+    private static void write(Iterator<String> lines, Path golden) {
+        try {
+            var directory = golden.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            var temporary = Files.createTempFile(directory, golden.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                while (lines.hasNext()) {
+                    writer.write(lines.next());
+                    writer.write('\n');
+                }
+            }
+            Files.move(temporary, golden, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write annotation snapshot " + golden, e);
+        }
+    }
+
+    private static Iterator<String> iterate(BufferedReader reader) {
+        return reader.lines().filter(l -> !l.isBlank()).iterator();
+    }
+
+    private static String next(Iterator<String> lines) {
+        return lines.hasNext() ? lines.next() : null;
+    }
+
+    private static String className(String line) {
+        var index = line.indexOf(' ');
+        return index < 0 ? line : line.substring(0, index);
+    }
+
+    private static String element(String line) {
+        var index = line.indexOf(' ');
+        return index < 0 ? "" : line.substring(index + 1);
+    }
+
+    private static byte[] classFile(ClassLoader loader, String className) {
+        try (var in = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read class file of " + className, e);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the annotation lookups made by {@link AnnotationAssertions}, by annotation type.
+ * <p>
+ * Counting is disabled unless the system property {@value #ENABLED_PROPERTY} is {@code true} when this library is
+ * first used; otherwise lookups are not even timed. Counters are striped {@link LongAdder}s, so concurrent tests
+ * do not contend on them.
+ * </p>
+ * e.g. to report the lookups made by each test class
+ * <pre>{@code
+ * @AfterAll
+ * static void reportAnnotationLookups() {
+ *     System.out.println(AnnotationStatistics.dumpAndReset());
+ * }
+ * }</pre>
+ */
+public final class AnnotationStatistics {
+
+    /**
+     * The system property that enables counting e.g. {@code -Dblt.assertj.statistics=true}.
+     */
+    public static final String ENABLED_PROPERTY = "blt.assertj.statistics";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final ConcurrentHashMap<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+    private AnnotationStatistics() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * @return {@code true} if lookups are being counted
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Formats the counters of every annotation type looked up, slowest first.
+     *
+     * @return a table of lookups, misses and total lookup time per annotation type
+     */
+    public static String dump() {
+        return dump(false);
+    }
+
+    /**
+     * Formats the counters of every annotation type looked up, slowest first, and resets them.
+     *
+     * @return a table of lookups, misses and total lookup time per annotation type since the last reset
+     */
+    public static String dumpAndReset() {
+        return dump(true);
+    }
+
+    /**
+     * Resets every counter to zero.
+     * <p>
+     * Counters are reset in place, so lookups made concurrently are counted either before or after the reset.
+     * </p>
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counters::reset);
+    }
+
+    static void record(Class<? extends Annotation> type, boolean found, long nanos) {
+        var counters = COUNTERS.get(type.getName());
+        if (counters == null) {
+            counters = COUNTERS.computeIfAbsent(type.getName(), t -> new Counters());
+        }
+        counters.lookups.increment();
+        if (!found) {
+            counters.misses.increment();
+        }
+        counters.nanos.add(nanos);
+    }
+
+    private static String dump(boolean reset) {
+        var rows = new ArrayList<Row>();
+        COUNTERS.forEach((type, counters) -> rows.add(reset
+                ? new Row(type, counters.lookups.sumThenReset(), counters.misses.sumThenReset(),
+                          counters.nanos.sumThenReset())
+                : new Row(type, counters.lookups.sum(), counters.misses.sum(), counters.nanos.sum())));
+        rows.sort(Comparator.comparingLong((Row r) -> r.nanos).reversed().thenComparing(r -> r.type));
+
+        var table = new StringBuilder(String.format(
+                "%-60s %10s %10s %12s", "Annotation", "Lookups", "Misses", "Total ms"));
+        for (var row : rows) {
+            if (row.lookups > 0) {
+                table.append(System.lineSeparator()).append(String.format(
+                        "%-60s %10d %10d %12.3f", row.type, row.lookups, row.misses, row.nanos / 1_000_000d));
+            }
+        }
+        return table.toString();
+    }
+
+    private static final class Counters {
+
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void reset() {
+            lookups.reset();
+            misses.reset();
+            nanos.reset();
+        }
+
+    }
+
+    private static final class Row {
+
+        private final String type;
+        private final long lookups;
+        private final long misses;
+        private final long nanos;
+
+        private Row(String type, long lookups, long misses, long nanos) {
+            this.type = type;
+            this.lookups = lookups;
+            this.misses = misses;
+            this.nanos = nanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+
+/**
+ * Assertions for a set of annotations that have all been found on an element.
+ * <p>
+ * Instances are created via {@code AnnotationAssertions.assertHasAnnotations(...)}, which has already asserted that
+ * every requested annotation is present.
+ * </p>
+ */
+public final class AnnotationsAssert {
+
+    private final Map<Class<? extends Annotation>, Annotation> found;
+
+    AnnotationsAssert(Map<Class<? extends Annotation>, Annotation> found) {
+        this.found = found;
+    }
+
+    /**
+     * Returns an assertion object for one of the found annotations.
+     *
+     * @param annotation one of the {@code Annotation} types passed to {@code assertHasAnnotations(...)}
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     * @throws IllegalArgumentException if {@code annotation} was not one of the asserted types
+     */
+    public <T extends Annotation> AnnotationAssert<T> annotation(Class<T> annotation) {
+        var instance = found.get(annotation);
+
+        if (instance == null) {
+            throw new IllegalArgumentException(
+                    "Annotation of type " + annotation.getSimpleName() + " was not asserted");
+        }
+
+        return new AnnotationAssert<>(annotation.cast(instance));
+    }
+
+}
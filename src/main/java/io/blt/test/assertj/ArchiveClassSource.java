@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A {@link ClassSource} that streams the class files in a zip archive and any archives nested within it.
+ * <p>
+ * The outer archive is opened for random access and each nested archive is inflated as a stream straight from its
+ * entry. Every class file is read into a single buffer, grown to fit the largest class, which is then handed to
+ * {@link ClassFile#read(ByteBuffer)} without copying. Entries outside the requested package are skipped before
+ * being read.
+ * </p>
+ */
+final class ArchiveClassSource implements ClassSource {
+
+    private static final List<String> CLASS_ROOTS = List.of("BOOT-INF/classes/", "WEB-INF/classes/");
+
+    private final Path archive;
+    private final String packagePath;
+
+    ArchiveClassSource(Path archive, String packagePath) {
+        this.archive = archive;
+        this.packagePath = packagePath;
+    }
+
+    @Override
+    public void forEach(Consumer<? super ClassFile> action) {
+        var reader = new Reader(action);
+        try (var zip = new ZipFile(archive.toFile())) {
+            var entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                var entry = entries.nextElement();
+                if (!entry.isDirectory()) {
+                    try (var in = zip.getInputStream(entry)) {
+                        reader.read(entry.getName(), in);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive " + archive, e);
+        }
+    }
+
+    @Override
+    public ClassSource inPackage(String packageName) {
+        return new ArchiveClassSource(archive, packageName.replace('.', '/') + "/");
+    }
+
+    @Override
+    public String toString() {
+        return packagePath.isEmpty()
+               ? archive.toString()
+               : archive + " in " + packagePath.substring(0, packagePath.length() - 1).replace('/', '.');
+    }
+
+    private final class Reader {
+
+        private final Consumer<? super ClassFile> action;
+        private byte[] buffer = new byte[8192];
+
+        private Reader(Consumer<? super ClassFile> action) {
+            this.action = action;
+        }
+
+        private void read(String name, InputStream in) throws IOException {
+            if (name.endsWith(".jar")) {
+                var nested = new ZipInputStream(in);
+                for (var entry = nested.getNextEntry(); entry != null; entry = nested.getNextEntry()) {
+                    if (!entry.isDirectory()) {
+                        read(entry.getName(), nested);
+                    }
+                }
+            } else if (isInPackage(name)) {
+                action.accept(ClassFile.read(ByteBuffer.wrap(buffer, 0, readFully(in))));
+            }
+        }
+
+        private boolean isInPackage(String name) {
+            if (!ClassPathScanner.isClassFile(name)) {
+                return false;
+            }
+            for (var root : CLASS_ROOTS) {
+                if (name.startsWith(root)) {
+                    return name.startsWith(packagePath, root.length());
+                }
+            }
+            return !name.startsWith("META-INF/") && name.startsWith(packagePath);
+        }
+
+        private int readFully(InputStream in) throws IOException {
+            var length = 0;
+            while (true) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                var read = in.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    return length;
+                }
+                length += read;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The annotations of a class, its fields and its methods, read directly from a {@code .class} file.
+ * <p>
+ * Reading a class file neither loads nor initializes the class, so no static initializers are run and the only cost
+ * is I/O. Only {@code RuntimeVisibleAnnotations} and top-level {@code RuntimeVisibleTypeAnnotations} of fields are
+ * read, matching what is visible through reflection.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void isAnnotatedAsTransactional() {
+ *     var classFile = ClassFile.read(Path.of("target/classes/com/acme/NotificationPublisher.class"));
+ *
+ *     assertHasAnnotation(classFile, Transactional.class)
+ *             .extracting(a -> a.attribute("readOnly"))
+ *             .isEqualTo(Optional.of(true));
+ * }
+ * }</pre>
+ */
+public final class ClassFile implements ClassFileElement {
+
+    private final String name;
+    private final List<ClassFileAnnotation> annotations;
+    private final List<ClassFileMember> fields;
+    private final List<ClassFileMember> methods;
+
+    ClassFile(String name,
+              List<ClassFileAnnotation> annotations,
+              List<ClassFileMember> fields,
+              List<ClassFileMember> methods) {
+        this.name = name;
+        this.annotations = annotations;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Reads a class file by memory-mapping it.
+     *
+     * @param path the path of a {@code .class} file
+     * @return the annotations of the class and its members
+     * @throws UncheckedIOException     if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid class file
+     */
+    public static ClassFile read(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read class file " + path, e);
+        }
+    }
+
+    /**
+     * Reads a class file from a buffer.
+     * <p>
+     * The buffer is read from its position to its limit; neither is modified.
+     * </p>
+     *
+     * @param buffer the bytes of a class file
+     * @return the annotations of the class and its members
+     * @throws IllegalArgumentException if the buffer does not hold a valid class file
+     */
+    public static ClassFile read(ByteBuffer buffer) {
+        return new ClassFileReader(buffer).read();
+    }
+
+    /**
+     * @return the binary name of the class e.g. {@code "com.acme.Outer$Inner"}
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public List<ClassFileAnnotation> annotations() {
+        return annotations;
+    }
+
+    /**
+     * @return the fields declared by the class
+     */
+    public List<ClassFileMember> fields() {
+        return fields;
+    }
+
+    /**
+     * @return the methods and constructors declared by the class
+     */
+    public List<ClassFileMember> methods() {
+        return methods;
+    }
+
+    /**
+     * @param name the name of a field
+     * @return the declared field named {@code name}, or empty if there is none
+     */
+    public Optional<ClassFileMember> field(String name) {
+        return fields.stream().filter(f -> f.name().equals(name)).findFirst();
+    }
+
+    /**
+     * @param name the name of a method
+     * @return the first declared method named {@code name}, or empty if there is none
+     */
+    public Optional<ClassFileMember> method(String name) {
+        return methods.stream().filter(m -> m.name().equals(name)).findFirst();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
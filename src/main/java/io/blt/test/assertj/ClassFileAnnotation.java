@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A lightweight view of an annotation read directly from a class file, without loading either the annotated class or
+ * the annotation type.
+ * <p>
+ * Only those attributes explicitly set where the annotation is used are recorded in a class file, so attributes left
+ * at their default value are absent. Attribute values are represented as:
+ * </p>
+ * <ul>
+ *     <li>primitives as their boxed type e.g. {@code Integer}, {@code Boolean}</li>
+ *     <li>strings as {@code String}</li>
+ *     <li>enum constants as the constant's name e.g. {@code "REQUIRES_NEW"}</li>
+ *     <li>classes as the binary class name e.g. {@code "java.lang.Exception"}, {@code "int"}, {@code "byte[]"}</li>
+ *     <li>nested annotations as {@code ClassFileAnnotation}</li>
+ *     <li>arrays as an unmodifiable {@code List} of the above</li>
+ * </ul>
+ */
+public final class ClassFileAnnotation {
+
+    private final String type;
+    private final Map<String, Object> attributes;
+
+    ClassFileAnnotation(String type, Map<String, Object> attributes) {
+        this.type = type;
+        this.attributes = attributes;
+    }
+
+    /**
+     * @return the binary name of the annotation type e.g. {@code "com.acme.Transactional"}
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * @return every attribute explicitly set on this annotation, in declaration order
+     */
+    public Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    /**
+     * @param name the attribute name e.g. {@code "value"}
+     * @return the attribute value, or empty if it was not explicitly set
+     */
+    public Optional<Object> attribute(String name) {
+        return Optional.ofNullable(attributes.get(name));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClassFileAnnotation)) {
+            return false;
+        }
+        var that = (ClassFileAnnotation) o;
+        return type.equals(that.type) && attributes.equals(that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, attributes);
+    }
+
+    @Override
+    public String toString() {
+        return "@" + type + attributes;
+    }
+
+}
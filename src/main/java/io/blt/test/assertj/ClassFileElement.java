@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An element of a class file (i.e. the class itself, a field or a method) that may be annotated.
+ */
+public interface ClassFileElement {
+
+    /**
+     * @return the runtime visible annotations of this element, in declaration order
+     */
+    List<ClassFileAnnotation> annotations();
+
+    /**
+     * @param type the binary name of an annotation type e.g. {@code "com.acme.Transactional"}
+     * @return the annotation of type {@code type}, or empty if none is present
+     */
+    default Optional<ClassFileAnnotation> findAnnotation(String type) {
+        for (var annotation : annotations()) {
+            if (annotation.type().equals(type)) {
+                return Optional.of(annotation);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
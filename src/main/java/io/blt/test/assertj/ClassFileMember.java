@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.List;
+
+/**
+ * A field or method read from a class file.
+ * <p>
+ * As with {@link AnnotationAssertions#assertHasAnnotation(java.lang.reflect.Field, Class)}, the annotations of a
+ * field include those on its declared type.
+ * </p>
+ */
+public final class ClassFileMember implements ClassFileElement {
+
+    private final String name;
+    private final String descriptor;
+    private final List<ClassFileAnnotation> annotations;
+
+    ClassFileMember(String name, String descriptor, List<ClassFileAnnotation> annotations) {
+        this.name = name;
+        this.descriptor = descriptor;
+        this.annotations = annotations;
+    }
+
+    /**
+     * @return the name of the member e.g. {@code "sendNotification"}
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the JVM descriptor of the member e.g. {@code "(Ljava/lang/String;)V"}
+     */
+    public String descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public List<ClassFileAnnotation> annotations() {
+        return annotations;
+    }
+
+    @Override
+    public String toString() {
+        return name + descriptor;
+    }
+
+}
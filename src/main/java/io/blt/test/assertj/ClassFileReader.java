@@ -0,0 +1,375 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Parses the annotations of a class file as described by chapter 4 of the JVM specification.
+ * <p>
+ * The constant pool is indexed by offset and entries are only decoded when referenced by an annotation or member,
+ * so unrelated constants cost nothing beyond a skip.
+ * </p>
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String RUNTIME_VISIBLE_TYPE_ANNOTATIONS = "RuntimeVisibleTypeAnnotations";
+
+    private static final int FIELD_TARGET = 0x13;
+
+    private final ByteBuffer buffer;
+    private int[] constantOffsets;
+
+    ClassFileReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    ClassFile read() {
+        try {
+            return readClassFile();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or malformed class file", e);
+        }
+    }
+
+    private ClassFile readClassFile() {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        skip(4); // minor_version, major_version
+        readConstantPool();
+        skip(2); // access_flags
+        var name = className(u2());
+        skip(2); // super_class
+        skip(2 * u2()); // interfaces
+
+        var fields = readMembers(true);
+        var methods = readMembers(false);
+        var annotations = readAttributes(false);
+
+        return new ClassFile(name, annotations, fields, methods);
+    }
+
+    private void readConstantPool() {
+        var count = u2();
+        constantOffsets = new int[count];
+
+        for (var i = 1; i < count; i++) {
+            constantOffsets[i] = buffer.position();
+            var tag = u1();
+            switch (tag) {
+                case 1: // Utf8
+                    skip(u2());
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skip(8);
+                    i++;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(2);
+                    break;
+                case 15: // MethodHandle
+                    skip(3);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+    }
+
+    private List<ClassFileMember> readMembers(boolean fields) {
+        var count = u2();
+        var members = new ArrayList<ClassFileMember>(count);
+
+        for (var i = 0; i < count; i++) {
+            skip(2); // access_flags
+            var name = utf8(u2());
+            var descriptor = utf8(u2());
+            members.add(new ClassFileMember(name, descriptor, readAttributes(fields)));
+        }
+
+        return Collections.unmodifiableList(members);
+    }
+
+    private List<ClassFileAnnotation> readAttributes(boolean includeTypeUse) {
+        var annotations = new ArrayList<ClassFileAnnotation>();
+        var count = u2();
+
+        for (var i = 0; i < count; i++) {
+            var name = utf8(u2());
+            var length = buffer.getInt();
+            var end = buffer.position() + length;
+
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                var annotationCount = u2();
+                for (var j = 0; j < annotationCount; j++) {
+                    addDistinct(annotations, readAnnotation());
+                }
+            } else if (includeTypeUse && RUNTIME_VISIBLE_TYPE_ANNOTATIONS.equals(name)) {
+                var annotationCount = u2();
+                for (var j = 0; j < annotationCount; j++) {
+                    var topLevel = readTypeAnnotationTarget();
+                    var annotation = readAnnotation();
+                    if (topLevel) {
+                        addDistinct(annotations, annotation);
+                    }
+                }
+            }
+
+            seek(end);
+        }
+
+        return annotations.isEmpty() ? List.of() : Collections.unmodifiableList(annotations);
+    }
+
+    private static void addDistinct(List<ClassFileAnnotation> annotations, ClassFileAnnotation annotation) {
+        if (!annotations.contains(annotation)) {
+            annotations.add(annotation);
+        }
+    }
+
+    /**
+     * Skips a type annotation's {@code target_info} and {@code type_path}.
+     *
+     * @return {@code true} if the annotation targets the top-level type of a field
+     */
+    private boolean readTypeAnnotationTarget() {
+        var targetType = u1();
+        switch (targetType) {
+            case 0x00:
+            case 0x01:
+            case 0x16:
+                skip(1);
+                break;
+            case 0x10:
+            case 0x11:
+            case 0x12:
+            case 0x17:
+            case 0x42:
+            case 0x43:
+            case 0x44:
+            case 0x45:
+            case 0x46:
+                skip(2);
+                break;
+            case 0x13:
+            case 0x14:
+            case 0x15:
+                break;
+            case 0x40:
+            case 0x41:
+                skip(6 * u2());
+                break;
+            case 0x47:
+            case 0x48:
+            case 0x49:
+            case 0x4A:
+            case 0x4B:
+                skip(3);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type annotation target " + targetType);
+        }
+
+        var pathLength = u1();
+        skip(2 * pathLength);
+
+        return targetType == FIELD_TARGET && pathLength == 0;
+    }
+
+    private ClassFileAnnotation readAnnotation() {
+        var type = descriptorToName(utf8(u2()));
+        var count = u2();
+        if (count == 0) {
+            return new ClassFileAnnotation(type, Collections.emptyMap());
+        }
+
+        var attributes = new LinkedHashMap<String, Object>();
+        for (var i = 0; i < count; i++) {
+            var name = utf8(u2());
+            attributes.put(name, readElementValue());
+        }
+
+        return new ClassFileAnnotation(type, Collections.unmodifiableMap(attributes));
+    }
+
+    private Object readElementValue() {
+        var tag = (char) u1();
+        switch (tag) {
+            case 'B':
+                return (byte) integer(u2());
+            case 'C':
+                return (char) integer(u2());
+            case 'S':
+                return (short) integer(u2());
+            case 'Z':
+                return integer(u2()) != 0;
+            case 'I':
+                return integer(u2());
+            case 'J':
+                return buffer.getLong(constant(u2()) + 1);
+            case 'F':
+                return buffer.getFloat(constant(u2()) + 1);
+            case 'D':
+                return buffer.getDouble(constant(u2()) + 1);
+            case 's':
+                return utf8(u2());
+            case 'e':
+                skip(2); // type_name_index
+                return utf8(u2());
+            case 'c':
+                return descriptorToName(utf8(u2()));
+            case '@':
+                return readAnnotation();
+            case '[':
+                var count = u2();
+                var values = new Object[count];
+                for (var i = 0; i < count; i++) {
+                    values[i] = readElementValue();
+                }
+                return List.of(values);
+            default:
+                throw new IllegalArgumentException("Unknown element value tag " + tag);
+        }
+    }
+
+    private int integer(int index) {
+        return buffer.getInt(constant(index) + 1);
+    }
+
+    private String className(int index) {
+        return utf8(buffer.getShort(constant(index) + 1) & 0xFFFF).replace('/', '.');
+    }
+
+    private int constant(int index) {
+        return constantOffsets[index];
+    }
+
+    private String utf8(int index) {
+        var offset = constant(index);
+        var length = buffer.getShort(offset + 1) & 0xFFFF;
+        return decodeModifiedUtf8(buffer, offset + 3, length);
+    }
+
+    /**
+     * Decodes {@code length} bytes of modified UTF-8, as used by class files and {@code DataOutput.writeUTF}.
+     */
+    static String decodeModifiedUtf8(ByteBuffer buffer, int offset, int length) {
+        var chars = new char[length];
+        var count = 0;
+        var end = offset + length;
+
+        while (offset < end) {
+            var b = buffer.get(offset++) & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(offset++) & 0x3F));
+            } else {
+                chars[count++] = (char) (((b & 0x0F) << 12)
+                                         | ((buffer.get(offset++) & 0x3F) << 6)
+                                         | (buffer.get(offset++) & 0x3F));
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Converts a field descriptor to a binary name e.g. {@code Ljava/lang/String;} to {@code java.lang.String}.
+     */
+    static String descriptorToName(String descriptor) {
+        switch (descriptor.charAt(0)) {
+            case 'B':
+                return "byte";
+            case 'C':
+                return "char";
+            case 'D':
+                return "double";
+            case 'F':
+                return "float";
+            case 'I':
+                return "int";
+            case 'J':
+                return "long";
+            case 'S':
+                return "short";
+            case 'Z':
+                return "boolean";
+            case 'V':
+                return "void";
+            case '[':
+                return descriptorToName(descriptor.substring(1)) + "[]";
+            case 'L':
+                return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+            default:
+                throw new IllegalArgumentException("Invalid descriptor " + descriptor);
+        }
+    }
+
+    private int u1() {
+        return buffer.get() & 0xFF;
+    }
+
+    private int u2() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int bytes) {
+        seek(buffer.position() + bytes);
+    }
+
+    private void seek(int position) {
+        if (position < 0 || position > buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(position);
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Assertions over every class file in a {@link ClassSource}, read one at a time.
+ * <p>
+ * Instances are created via {@link AnnotationAssertions#assertThatClassFilesIn(ClassSource)}.
+ * Each rule streams the source once and reports every violating class in a single failure; only the names of
+ * violating classes are retained. Annotations are compared by name, so neither the classes nor the annotation types
+ * need be on the class path.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void deployedControllersAreSecured() {
+ *     assertThatClassFilesIn(ClassSource.archive(Path.of("target/service.jar")).inPackage("com.acme.api"))
+ *             .annotatedWith(RestController.class)
+ *             .allHaveAnnotation(PreAuthorize.class);
+ * }
+ * }</pre>
+ */
+public final class ClassFilesAssert {
+
+    private final ClassSource source;
+    private final Predicate<ClassFile> filter;
+    private final String description;
+    private final ViolationReport report;
+
+    ClassFilesAssert(ClassSource source) {
+        this(source, c -> true, "class files in " + source, null);
+    }
+
+    private ClassFilesAssert(ClassSource source,
+                             Predicate<ClassFile> filter,
+                             String description,
+                             ViolationReport report) {
+        this.source = source;
+        this.filter = filter;
+        this.description = description;
+        this.report = report;
+    }
+
+    /**
+     * Restricts subsequent assertions to those class files annotated with a given annotation.
+     *
+     * @param annotation the {@code Annotation} type classes must be annotated with
+     * @return a new {@code ClassFilesAssert} for the matching class files
+     */
+    public ClassFilesAssert annotatedWith(Class<? extends Annotation> annotation) {
+        return filteredOn(c -> c.findAnnotation(annotation.getName()).isPresent(),
+                          "annotated with " + annotation.getSimpleName());
+    }
+
+    /**
+     * Restricts subsequent assertions to those class files matching a given predicate.
+     *
+     * @param predicate   the predicate class files must match
+     * @param description a description of {@code predicate} used in failure messages e.g. {@code "named *Controller"}
+     * @return a new {@code ClassFilesAssert} for the matching class files
+     */
+    public ClassFilesAssert filteredOn(Predicate<? super ClassFile> predicate, String description) {
+        return new ClassFilesAssert(
+                source, filter.and(predicate::test), this.description + " " + description, report);
+    }
+
+    /**
+     * Streams the violations of subsequent rules to a report file as they are found, instead of collecting them.
+     * <p>
+     * Only the first few violations are retained for the failure message, so memory use stays bounded however
+     * many classes break a rule.
+     * </p>
+     *
+     * @param report the report to which violations are written
+     * @return a new {@code ClassFilesAssert} for the same class files that reports to {@code report}
+     * @see ViolationReport
+     */
+    public ClassFilesAssert reportingTo(ViolationReport report) {
+        return new ClassFilesAssert(source, filter, description, report);
+    }
+
+    /**
+     * Asserts that every class file is annotated with a given annotation.
+     * <p>
+     * If any class is not annotated, the test fails listing every such class.
+     * </p>
+     *
+     * @param annotation the expected {@code Annotation} type
+     * @return this assertion object
+     */
+    public ClassFilesAssert allHaveAnnotation(Class<? extends Annotation> annotation) {
+        failIfAnyViolations(
+                c -> c.findAnnotation(annotation.getName()).isEmpty(),
+                "to have annotation of type " + annotation.getSimpleName());
+
+        return this;
+    }
+
+    /**
+     * Asserts that no class file is annotated with a given annotation.
+     * <p>
+     * If any class is annotated, the test fails listing every such class.
+     * </p>
+     *
+     * @param annotation the unexpected {@code Annotation} type
+     * @return this assertion object
+     */
+    public ClassFilesAssert noneHaveAnnotation(Class<? extends Annotation> annotation) {
+        failIfAnyViolations(
+                c -> c.findAnnotation(annotation.getName()).isPresent(),
+                "not to have annotation of type " + annotation.getSimpleName());
+
+        return this;
+    }
+
+    private void failIfAnyViolations(Predicate<ClassFile> violates, String expectation) {
+        if (report == null) {
+            var violations = new ArrayList<String>();
+            violations(violates, violations::add);
+            violations.sort(null);
+            ClassesAssert.failIfAnyViolations(description, violations, expectation);
+            return;
+        }
+
+        try (var run = report.open(description, expectation)) {
+            violations(violates, name -> run.add(name, name));
+            run.failIfAny();
+        }
+    }
+
+    private void violations(Predicate<ClassFile> violates, Consumer<String> sink) {
+        source.forEach(c -> {
+            if (filter.test(c) && violates.test(c)) {
+                sink.accept(c.name());
+            }
+        });
+    }
+
+}
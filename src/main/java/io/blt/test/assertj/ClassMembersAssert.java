@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Assertions over the declared methods, fields and constructors of a class.
+ * <p>
+ * Instances are created via {@link AnnotationAssertions#assertMembersOf(Class)}. The member × annotation matrix of
+ * the class is built once, on first use, and shared by every subsequent assertion.
+ * </p>
+ */
+public final class ClassMembersAssert {
+
+    private final MemberMatrix matrix;
+
+    ClassMembersAssert(MemberMatrix matrix) {
+        this.matrix = matrix;
+    }
+
+    /**
+     * @return an assertion object for the declared, non-synthetic methods of the class
+     */
+    public MembersAssert<Method> methods() {
+        return new MembersAssert<>(matrix, "methods", matrix.methods());
+    }
+
+    /**
+     * @return an assertion object for the declared, non-synthetic fields of the class
+     */
+    public MembersAssert<Field> fields() {
+        return new MembersAssert<>(matrix, "fields", matrix.fields());
+    }
+
+    /**
+     * @return an assertion object for the declared constructors of the class
+     */
+    public MembersAssert<Constructor<?>> constructors() {
+        return new MembersAssert<>(matrix, "constructors", matrix.constructors());
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the names of classes in a package (and its sub-packages) by scanning class path directories and jars.
+ * <p>
+ * Only class file names are read; no class is loaded or initialized while scanning.
+ * </p>
+ */
+final class ClassPathScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClassPathScanner() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Scans the class path of a {@code ClassLoader} for classes in a package, grouped by their package.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @param loader      the {@code ClassLoader} whose class path is scanned
+     * @return the binary names of every class found, grouped and sorted by package
+     */
+    static List<List<String>> scanByPackage(String packageName, ClassLoader loader) {
+        return scan(packageName, loader).stream()
+                                        .collect(Collectors.groupingBy(
+                                                ClassPathScanner::packageOf, TreeMap::new, Collectors.toList()))
+                                        .values()
+                                        .stream()
+                                        .map(List::copyOf)
+                                        .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Scans the class path of a {@code ClassLoader} for classes in a package.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @param loader      the {@code ClassLoader} whose class path is scanned
+     * @return the sorted binary names of every class found
+     */
+    static SortedSet<String> scan(String packageName, ClassLoader loader) {
+        var path = packageName.replace('.', '/');
+        var names = new TreeSet<String>();
+
+        try {
+            var roots = loader.getResources(path);
+            while (roots.hasMoreElements()) {
+                names.addAll(scanRoot(roots.nextElement(), packageName));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan class path for package " + packageName, e);
+        }
+
+        return names;
+    }
+
+    private static Collection<String> scanRoot(URL root, String packageName) throws IOException {
+        switch (root.getProtocol()) {
+            case "file":
+                return scanDirectory(toPath(root), packageName);
+            case "jar":
+                return scanJar((JarURLConnection) root.openConnection(), packageName);
+            default:
+                return List.of();
+        }
+    }
+
+    private static Collection<String> scanDirectory(Path directory, String packageName) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                        .map(directory::relativize)
+                        .map(file -> packageName.replace('.', '/') + "/" + toResourceName(file))
+                        .filter(ClassPathScanner::isClassFile)
+                        .map(ClassPathScanner::toClassName)
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private static Collection<String> scanJar(JarURLConnection connection, String packageName) throws IOException {
+        var prefix = packageName.replace('.', '/') + "/";
+        var names = new ArrayList<String>();
+
+        connection.setUseCaches(false);
+        try (var jar = connection.getJarFile()) {
+            var entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                var entry = entries.nextElement().getName();
+                if (entry.startsWith(prefix) && isClassFile(entry)) {
+                    names.add(toClassName(entry));
+                }
+            }
+        }
+
+        return names;
+    }
+
+    static boolean isClassFile(String path) {
+        return path.endsWith(CLASS_SUFFIX)
+               && !path.endsWith("module-info" + CLASS_SUFFIX)
+               && !path.endsWith("package-info" + CLASS_SUFFIX);
+    }
+
+    static String toClassName(String path) {
+        return path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    }
+
+    static String packageOf(String className) {
+        var index = className.lastIndexOf('.');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    private static String toResourceName(Path relative) {
+        return relative.toString().replace(relative.getFileSystem().getSeparator(), "/");
+    }
+
+    private static Path toPath(URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid class path entry " + url, e);
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, lazily loaded set of scanned classes that evaluates rules in parallel.
+ * <p>
+ * Class names are scanned once and partitioned by package. Rules are evaluated on a {@link ForkJoinPool}, with each
+ * task splitting its range of packages until a single package remains, which is then loaded and checked in turn.
+ * Classes are loaded without being initialized. A class that cannot be loaded or linked (e.g. due to a missing
+ * optional dependency) is reported as a violation of every rule, since it was never checked, unless the set
+ * {@link #ignoringUnloadable() ignores} such classes.
+ * </p>
+ * <p>
+ * Where a {@link VerificationCache} is used, classes that have already complied with a rule, and whose class files
+ * are unchanged, are skipped without being loaded. Only rules and filters with a fingerprint are cached, since an
+ * arbitrary predicate cannot be identified across builds.
+ * </p>
+ */
+final class ClassSet {
+
+    private final ClassLoader loader;
+    private final List<List<String>> partitions;
+    private final Predicate<Class<?>> filter;
+    private final String description;
+    private final String fingerprint;
+    private final VerificationCache cache;
+    private final ViolationReport report;
+    private final boolean ignoreUnloadable;
+
+    private ClassSet(ClassLoader loader,
+                     List<List<String>> partitions,
+                     Predicate<Class<?>> filter,
+                     String description,
+                     String fingerprint,
+                     VerificationCache cache,
+                     ViolationReport report,
+                     boolean ignoreUnloadable) {
+        this.loader = loader;
+        this.partitions = partitions;
+        this.filter = filter;
+        this.description = description;
+        this.fingerprint = fingerprint;
+        this.cache = cache;
+        this.report = report;
+        this.ignoreUnloadable = ignoreUnloadable;
+    }
+
+    /**
+     * Scans the class path of the current thread's context {@code ClassLoader} for classes in a package.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @return every class in {@code packageName} and its sub-packages
+     */
+    static ClassSet scan(String packageName) {
+        var loader = contextLoader();
+        return new ClassSet(
+                loader,
+                ClassPathScanner.scanByPackage(packageName, loader),
+                c -> true,
+                "classes in " + packageName,
+                "",
+                null,
+                null,
+                false);
+    }
+
+    /**
+     * @return the current thread's context {@code ClassLoader}, or the loader of this library if there is none
+     */
+    static ClassLoader contextLoader() {
+        var loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : ClassSet.class.getClassLoader();
+    }
+
+    /**
+     * Returns a subset of this set.
+     *
+     * @param predicate   the predicate classes must match
+     * @param description a description of {@code predicate} e.g. {@code annotated with Service}
+     * @return a new {@code ClassSet} containing only those classes that match {@code predicate}
+     */
+    ClassSet filter(Predicate<Class<?>> predicate, String description) {
+        return filter(predicate, description, null);
+    }
+
+    /**
+     * Returns a subset of this set whose results may be cached.
+     *
+     * @param predicate   the predicate classes must match
+     * @param description a description of {@code predicate} e.g. {@code annotated with Service}
+     * @param fingerprint identifies {@code predicate} across builds, or {@code null} if it cannot be identified
+     * @return a new {@code ClassSet} containing only those classes that match {@code predicate}
+     */
+    ClassSet filter(Predicate<Class<?>> predicate, String description, String fingerprint) {
+        return new ClassSet(
+                loader,
+                partitions,
+                filter.and(predicate),
+                this.description + " " + description,
+                this.fingerprint != null && fingerprint != null ? this.fingerprint + "\n" + fingerprint : null,
+                cache,
+                report,
+                ignoreUnloadable);
+    }
+
+    /**
+     * @param cache the cache used to skip classes that have already complied with a rule
+     * @return a new {@code ClassSet} with the same classes that uses {@code cache}
+     */
+    ClassSet cached(VerificationCache cache) {
+        return new ClassSet(loader, partitions, filter, description, fingerprint, cache, report, ignoreUnloadable);
+    }
+
+    /**
+     * @param report the report to which rules stream their violations
+     * @return a new {@code ClassSet} with the same classes that reports to {@code report}
+     */
+    ClassSet reported(ViolationReport report) {
+        return new ClassSet(loader, partitions, filter, description, fingerprint, cache, report, ignoreUnloadable);
+    }
+
+    /**
+     * @return a new {@code ClassSet} with the same classes that skips, rather than reports, classes that cannot be
+     *         loaded or linked
+     */
+    ClassSet ignoringUnloadable() {
+        return new ClassSet(loader, partitions, filter, description, fingerprint, cache, report, true);
+    }
+
+    /**
+     * @return the report to which rules stream their violations, or {@code null} if violations are collected
+     */
+    ViolationReport report() {
+        return report;
+    }
+
+    /**
+     * @return a description of the classes in this set e.g. {@code classes in com.acme annotated with Service}
+     */
+    String description() {
+        return description;
+    }
+
+    /**
+     * Evaluates a rule against every class in this set, in parallel.
+     *
+     * @param rule returns a violation message for a class that breaks the rule, or {@code null} if it complies
+     * @return every violation message, ordered by package then class name
+     */
+    List<String> violations(Function<Class<?>, String> rule) {
+        return violations(rule, null);
+    }
+
+    /**
+     * Evaluates a rule against every class in this set, in parallel, skipping any class that has already complied.
+     *
+     * @param rule        returns a violation message for a class that breaks the rule, or {@code null} if it complies
+     * @param fingerprint identifies {@code rule} across builds, or {@code null} if its results must not be cached
+     * @return every violation message, ordered by package then class name
+     */
+    List<String> violations(Function<Class<?>, String> rule, String fingerprint) {
+        return evaluate(rule, fingerprint, null);
+    }
+
+    /**
+     * Evaluates a rule against every class in this set, in parallel, skipping any class that has already complied,
+     * and passes each violation to a sink as soon as it is found.
+     *
+     * @param rule        returns a violation message for a class that breaks the rule, or {@code null} if it complies
+     * @param fingerprint identifies {@code rule} across builds, or {@code null} if its results must not be cached
+     * @param sink        accepts the name of each violating class and its violation message, in no particular order
+     *                    and possibly concurrently
+     */
+    void violations(Function<Class<?>, String> rule, String fingerprint, BiConsumer<String, String> sink) {
+        evaluate(rule, fingerprint, sink);
+    }
+
+    private List<String> evaluate(Function<Class<?>, String> rule,
+                                  String fingerprint,
+                                  BiConsumer<String, String> sink) {
+        var session = cache != null && this.fingerprint != null && fingerprint != null
+                      ? cache.session(this.fingerprint + "\n" + fingerprint, loader)
+                      : null;
+
+        var violations = ForkJoinPool.commonPool().invoke(new Evaluation(rule, session, sink, 0, partitions.size()));
+
+        if (session != null) {
+            session.commit();
+        }
+        return violations;
+    }
+
+    private void evaluate(List<String> partition,
+                          Function<Class<?>, String> rule,
+                          VerificationCache.Session session,
+                          BiConsumer<String, String> violations) {
+        for (var name : partition) {
+            var key = session != null ? session.key(name) : null;
+            if (key != null && session.isVerified(key)) {
+                continue;
+            }
+
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                if (!ignoreUnloadable) {
+                    violations.accept(name, unloadable(name, e));
+                }
+                continue;
+            }
+
+            var violation = filter.test(clazz) ? rule.apply(clazz) : null;
+            if (violation != null) {
+                violations.accept(name, violation);
+            } else if (key != null) {
+                session.complied(key);
+            }
+        }
+    }
+
+    /**
+     * @param name  the binary name of a class that could not be loaded
+     * @param cause the reason it could not be loaded
+     * @return a violation message naming the class and the reason e.g.
+     *         {@code com.acme.Foo (could not be loaded: java.lang.NoClassDefFoundError: com/acme/Bar)}
+     */
+    static String unloadable(String name, Throwable cause) {
+        return name + " (could not be loaded: " + cause + ")";
+    }
+
+    private final class Evaluation extends RecursiveTask<List<String>> {
+
+        private final Function<Class<?>, String> rule;
+        private final VerificationCache.Session session;
+        private final BiConsumer<String, String> sink;
+        private final int from;
+        private final int to;
+
+        private Evaluation(Function<Class<?>, String> rule,
+                           VerificationCache.Session session,
+                           BiConsumer<String, String> sink,
+                           int from,
+                           int to) {
+            this.rule = rule;
+            this.session = session;
+            this.sink = sink;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (to - from == 0) {
+                return Collections.emptyList();
+            }
+            if (to - from == 1) {
+                if (sink != null) {
+                    evaluate(partitions.get(from), rule, session, sink);
+                    return Collections.emptyList();
+                }
+                var violations = new ArrayList<String>();
+                evaluate(partitions.get(from), rule, session, (name, violation) -> violations.add(violation));
+                return violations;
+            }
+
+            var middle = (from + to) >>> 1;
+            var left = new Evaluation(rule, session, sink, from, middle);
+            left.fork();
+            var right = new Evaluation(rule, session, sink, middle, to).compute();
+            var violations = new ArrayList<>(left.join());
+            violations.addAll(right);
+            return violations;
+        }
+    }
+
+}
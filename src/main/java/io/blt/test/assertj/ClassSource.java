@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * A source of class files, read one at a time without loading any class.
+ * <p>
+ * Sources are streamed afresh each time they are read, so only the class file currently being read is held in
+ * memory.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void deployedControllersAreSecured() {
+ *     assertThatClassFilesIn(ClassSource.archive(Path.of("target/service.jar")).inPackage("com.acme.api"))
+ *             .annotatedWith(RestController.class)
+ *             .allHaveAnnotation(PreAuthorize.class);
+ * }
+ * }</pre>
+ */
+public interface ClassSource {
+
+    /**
+     * Creates a source of the class files in a JAR, including an executable Spring Boot style JAR.
+     * <p>
+     * Classes are read from the root of the archive, from {@code BOOT-INF/classes/} and {@code WEB-INF/classes/}, and
+     * from every nested {@code .jar} entry (e.g. {@code BOOT-INF/lib/*.jar}). Nested archives are streamed directly
+     * from the outer archive, never extracted.
+     * </p>
+     *
+     * @param archive the path of a {@code .jar}, {@code .war} or other zip archive
+     * @return a source of the class files in {@code archive}
+     */
+    static ClassSource archive(Path archive) {
+        return new ArchiveClassSource(archive, "");
+    }
+
+    /**
+     * Reads every class file in this source, in turn.
+     *
+     * @param action performed for each class file
+     * @throws java.io.UncheckedIOException if this source cannot be read
+     * @throws IllegalArgumentException     if a class file is malformed
+     */
+    void forEach(Consumer<? super ClassFile> action);
+
+    /**
+     * Restricts this source to the classes in a package and its sub-packages.
+     *
+     * @param packageName the root package e.g. {@code com.acme}
+     * @return a source of the class files in {@code packageName}
+     */
+    ClassSource inPackage(String packageName);
+
+}
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Assertions over every class in a package, evaluated in parallel.
+ * <p>
+ * Instances are created via {@link AnnotationAssertions#assertThatClassesIn(String)}.
+ * The class path is scanned once; each rule then loads and checks the classes in parallel and reports every
+ * violating class in a single failure.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void restControllersAreSecured() {
+ *     assertThatClassesIn("com.acme.api")
+ *             .annotatedWith(RestController.class)
+ *             .allHaveAnnotation(PreAuthorize.class)
+ *             .satisfying(a -> assertThat(a.value()).isNotBlank());
+ * }
+ * }</pre>
+ */
+public final class ClassesAssert {
+
+    private final ClassSet classes;
+
+    ClassesAssert(ClassSet classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * Restricts subsequent assertions to those classes annotated with a given annotation.
+     *
+     * @param annotation the {@code Annotation} type classes must be annotated with
+     * @return a new {@code ClassesAssert} for the matching classes
+     */
+    public ClassesAssert annotatedWith(Class<? extends Annotation> annotation) {
+        return new ClassesAssert(classes.filter(
+                c -> LookupInstrumentation.get(c, AnnotationIndex.of(c), annotation) != null,
+                "annotated with " + annotation.getSimpleName(),
+                fingerprint("annotatedWith", annotation)));
+    }
+
+    /**
+     * Restricts subsequent assertions to those classes matching a given predicate.
+     *
+     * @param predicate   the predicate classes must match
+     * @param description a description of {@code predicate} used in failure messages e.g. {@code "named *Controller"}
+     * @return a new {@code ClassesAssert} for the matching classes
+     */
+    public ClassesAssert filteredOn(Predicate<? super Class<?>> predicate, String description) {
+        return new ClassesAssert(classes.filter(predicate::test, description));
+    }
+
+    /**
+     * Skips classes that cannot be loaded or linked, e.g. due to a missing optional dependency.
+     * <p>
+     * By default, every such class is reported as a violation of each rule, since it could not be checked.
+     * </p>
+     *
+     * @return a new {@code ClassesAssert} for the same classes that skips those that cannot be loaded
+     */
+    public ClassesAssert ignoringUnloadableClasses() {
+        return new ClassesAssert(classes.ignoringUnloadable());
+    }
+
+    /**
+     * Skips classes that have already passed a rule in an earlier run, recording results in
+     * {@code target/blt-assertj/verification.cache}.
+     *
+     * @return a new {@code ClassesAssert} for the same classes that uses the cache
+     * @see #withResultCache(Path)
+     */
+    public ClassesAssert withResultCache() {
+        return withResultCache(VerificationCache.DEFAULT_PATH);
+    }
+
+    /**
+     * Skips classes that have already passed a rule in an earlier run, recording results in a given file.
+     * <p>
+     * A class is skipped only if neither its class file nor the rule, including any {@code annotatedWith} filters
+     * and the class files of their annotation types, has changed since it passed. Results are not cached for rules
+     * that follow {@link #filteredOn(Predicate, String)}, that involve an {@link java.lang.annotation.Inherited}
+     * annotation, or that are checked with {@link AnnotatedClassesAssert#satisfying(java.util.function.Consumer)}.
+     * The file may be shared by concurrently forked JVMs.
+     * </p>
+     *
+     * @param file the cache file, which is created if it does not exist
+     * @return a new {@code ClassesAssert} for the same classes that uses the cache
+     */
+    public ClassesAssert withResultCache(Path file) {
+        return new ClassesAssert(classes.cached(VerificationCache.at(file)));
+    }
+
+    /**
+     * Streams the violations of subsequent rules to a report file as they are found, instead of collecting them.
+     * <p>
+     * Only the first few violations are retained for the failure message, so memory use stays bounded however
+     * many classes break a rule.
+     * </p>
+     *
+     * @param report the report to which violations are written
+     * @return a new {@code ClassesAssert} for the same classes that reports to {@code report}
+     * @see ViolationReport
+     */
+    public ClassesAssert reportingTo(ViolationReport report) {
+        return new ClassesAssert(classes.reported(report));
+    }
+
+    /**
+     * Asserts that every class is annotated with a given annotation.
+     * <p>
+     * If any class is not annotated, the test fails listing every such class.
+     * </p>
+     *
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotations
+     */
+    public <T extends Annotation> AnnotatedClassesAssert<T> allHaveAnnotation(Class<T> annotation) {
+        failIfAnyViolations(
+                classes,
+                c -> LookupInstrumentation.get(c, AnnotationIndex.of(c), annotation) == null ? c.getName() : null,
+                fingerprint("allHaveAnnotation", annotation),
+                "to have annotation of type " + annotation.getSimpleName());
+
+        return new AnnotatedClassesAssert<>(classes, annotation);
+    }
+
+    /**
+     * Asserts that no class is annotated with a given annotation.
+     * <p>
+     * If any class is annotated, the test fails listing every such class.
+     * </p>
+     *
+     * @param annotation the unexpected {@code Annotation} type
+     * @return this assertion object
+     */
+    public ClassesAssert noneHaveAnnotation(Class<? extends Annotation> annotation) {
+        failIfAnyViolations(
+                classes,
+                c -> LookupInstrumentation.get(c, AnnotationIndex.of(c), annotation) != null ? c.getName() : null,
+                fingerprint("noneHaveAnnotation", annotation),
+                "not to have annotation of type " + annotation.getSimpleName());
+
+        return this;
+    }
+
+    static void failIfAnyViolations(String description, List<String> violations, String expectation) {
+        if (!violations.isEmpty()) {
+            var message = new StringBuilder(String.format(
+                    "Expecting all %s %s but %d did not:", description, expectation, violations.size()));
+            violations.forEach(v -> message.append(System.lineSeparator()).append("  ").append(v));
+            throw Failures.instance().failure(message.toString());
+        }
+    }
+
+    static void failIfAnyViolations(ClassSet classes,
+                                    Function<Class<?>, String> rule,
+                                    String fingerprint,
+                                    String expectation) {
+        var report = classes.report();
+        if (report == null) {
+            failIfAnyViolations(classes.description(), classes.violations(rule, fingerprint), expectation);
+            return;
+        }
+
+        try (var run = report.open(classes.description(), expectation)) {
+            classes.violations(rule, fingerprint, run::add);
+            run.failIfAny();
+        }
+    }
+
+    private static String fingerprint(String rule, Class<? extends Annotation> annotation) {
+        var fingerprint = VerificationCache.fingerprint(annotation);
+        return fingerprint != null ? rule + " " + fingerprint : null;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+/**
+ * Factories of lazy JUnit Jupiter dynamic tests, one per class or member in a package, for use in a
+ * {@link org.junit.jupiter.api.TestFactory}.
+ * <p>
+ * The class path is scanned for class names only. Each class is loaded, without being initialized, only when its
+ * test (or, for members, its container) is reached, so the first failure is reported without first resolving every
+ * element, and elements that have been checked can be collected. A class that cannot be loaded fails its test, or for
+ * members its container.
+ * </p>
+ * <p>
+ * Requires {@code org.junit.jupiter:junit-jupiter-api}, which is an optional dependency of this library.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @TestFactory
+ * Stream<DynamicContainer> publicMethodsAreTransactional() {
+ *     return forEachMethodIn("com.acme.service", method -> {
+ *         if (Modifier.isPublic(method.getModifiers())) {
+ *             assertHasAnnotation(method, Transactional.class);
+ *         }
+ *     });
+ * }
+ * }</pre>
+ */
+public final class DynamicAnnotationTests {
+
+    private static final Comparator<Member> MEMBER_ORDER = Comparator.comparing(MemberMatrix::describe);
+
+    private DynamicAnnotationTests() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Creates a lazy test per class in a package (and its sub-packages) of the current thread's context
+     * {@code ClassLoader}, named after the class.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @param check       the assertions to perform on each class e.g. {@code c -> assertHasAnnotation(c, A.class)}
+     * @return a test per class, ordered by package then class name
+     */
+    public static Stream<DynamicTest> forEachClassIn(String packageName, ThrowingConsumer<? super Class<?>> check) {
+        var loader = ClassSet.contextLoader();
+        return classNames(packageName, loader)
+                .map(name -> DynamicTest.dynamicTest(name, () -> check.accept(load(name, loader))));
+    }
+
+    /**
+     * Creates a lazy container per class in a package (and its sub-packages) of the current thread's context
+     * {@code ClassLoader}, holding a test per declared, non-synthetic method of the class.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @param check       the assertions to perform on each method
+     * @return a container of method tests per class, ordered by package then class name
+     */
+    public static Stream<DynamicContainer> forEachMethodIn(String packageName, ThrowingConsumer<? super Method> check) {
+        return forEachMemberIn(packageName, Class::getDeclaredMethods, check);
+    }
+
+    /**
+     * Creates a lazy container per class in a package (and its sub-packages) of the current thread's context
+     * {@code ClassLoader}, holding a test per declared, non-synthetic field of the class.
+     *
+     * @param packageName the root package to scan e.g. {@code com.acme}
+     * @param check       the assertions to perform on each field
+     * @return a container of field tests per class, ordered by package then class name
+     */
+    public static Stream<DynamicContainer> forEachFieldIn(String packageName, ThrowingConsumer<? super Field> check) {
+        return forEachMemberIn(packageName, Class::getDeclaredFields, check);
+    }
+
+    private static <M extends Member & AnnotatedElement> Stream<DynamicContainer> forEachMemberIn(
+            String packageName, Function<Class<?>, M[]> members, ThrowingConsumer<? super M> check) {
+        var loader = ClassSet.contextLoader();
+        return classNames(packageName, loader)
+                .map(name -> DynamicContainer.dynamicContainer(
+                        name,
+                        Stream.of(name)
+                              .map(n -> load(n, loader))
+                              .flatMap(c -> Arrays.stream(members.apply(c)))
+                              .filter(m -> !m.isSynthetic())
+                              .sorted(MEMBER_ORDER)
+                              .map(m -> DynamicTest.dynamicTest(MemberMatrix.describe(m), () -> check.accept(m)))));
+    }
+
+    private static Stream<String> classNames(String packageName, ClassLoader loader) {
+        return ClassPathScanner.scanByPackage(packageName, loader).stream().flatMap(List::stream);
+    }
+
+    private static Class<?> load(String name, ClassLoader loader) {
+        try {
+            return Class.forName(name, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new AssertionError(ClassSet.unloadable(name, e), e);
+        }
+    }
+
+}
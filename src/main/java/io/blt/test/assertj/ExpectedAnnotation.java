@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+
+/**
+ * Builds an expected instance of an annotation type from attribute values, for comparison with found annotations.
+ * <p>
+ * Instances are created via {@link AnnotationAssertions#expectedAnnotation(Class)}. Attributes that are not set take
+ * their default values. The built instance honours the {@link Annotation} {@code equals}/{@code hashCode} contract;
+ * its attribute values are held in a table aligned with the attributes of the annotation type and its hash code is
+ * computed once, so it can be compared with many found annotations cheaply.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * private static final Transactional READ_ONLY = expectedAnnotation(Transactional.class)
+ *         .with("readOnly", true)
+ *         .build();
+ *
+ * @Test
+ * void isReadOnlyTransactional() {
+ *     assertHasAnnotation(NotificationPublisher.class, Transactional.class)
+ *             .isEquivalentTo(READ_ONLY);
+ * }
+ * }</pre>
+ *
+ * @param <T> type of {@code Annotation}
+ */
+public final class ExpectedAnnotation<T extends Annotation> {
+
+    private final Class<T> type;
+    private final AnnotationAttributes attributes;
+    private final Object[] values;
+
+    ExpectedAnnotation(Class<T> type) {
+        this.type = type;
+        this.attributes = AnnotationAttributes.of(type);
+        this.values = new Object[attributes.size()];
+    }
+
+    /**
+     * Sets the value of an attribute.
+     *
+     * @param name  the attribute name e.g. {@code "readOnly"}
+     * @param value the value, of the declared type of the attribute (or its wrapper, or a number that converts exactly
+     *              to it); arrays are copied
+     * @return this builder
+     * @throws IllegalArgumentException if there is no such attribute or {@code value} is not of its type
+     */
+    public ExpectedAnnotation<T> with(String name, Object value) {
+        var index = attributes.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    "Annotation of type " + type.getSimpleName() + " has no attribute named " + name);
+        }
+        value = attributes.coerce(index, value);
+        if (value == null || !wrapperOf(attributes.type(index)).isInstance(value)) {
+            throw new IllegalArgumentException(String.format(
+                    "Attribute %s of annotation of type %s must be of type %s but was %s",
+                    name,
+                    type.getSimpleName(),
+                    attributes.type(index).getSimpleName(),
+                    value == null ? "null" : value.getClass().getSimpleName()));
+        }
+
+        values[index] = SyntheticAnnotation.copyOf(value);
+        return this;
+    }
+
+    /**
+     * @return an instance of the annotation type with the set attribute values, and defaults for the rest
+     * @throws IllegalStateException if an attribute without a default value has not been set
+     */
+    public T build() {
+        var built = new Object[values.length];
+        for (var i = 0; i < values.length; i++) {
+            built[i] = values[i] != null ? values[i] : attributes.defaultValue(i);
+            if (built[i] == null) {
+                throw new IllegalStateException(
+                        "Attribute " + attributes.name(i) + " of annotation of type " + type.getSimpleName()
+                        + " has no default value and must be set");
+            }
+        }
+        return SyntheticAnnotation.of(type, built);
+    }
+
+    private static Class<?> wrapperOf(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return Array.get(Array.newInstance(type, 1), 0).getClass();
+    }
+
+}
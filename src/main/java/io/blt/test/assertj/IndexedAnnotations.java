@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The annotations of classes, read from the index written at build time by {@code blt-assertj-processor}.
+ * <p>
+ * An index is memory-mapped where possible and each class is decoded on first use, so neither the indexed classes nor
+ * their annotation types are loaded and no reflection is needed. Each class is returned as a {@link ClassFile},
+ * holding the same annotations as would be read from its {@code .class} file, so the same assertions apply.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * private static final IndexedAnnotations INDEX = IndexedAnnotations.load();
+ *
+ * @Test
+ * void isAnnotatedAsTransactional() {
+ *     var classFile = INDEX.find("com.acme.NotificationPublisher").orElseThrow();
+ *
+ *     assertHasAnnotation(classFile, Transactional.class);
+ * }
+ * }</pre>
+ */
+public final class IndexedAnnotations {
+
+    /**
+     * The class path resource holding an index.
+     */
+    public static final String INDEX_RESOURCE = AnnotationIndexFormat.INDEX_RESOURCE;
+
+    private final List<AnnotationIndexReader> readers;
+    private final ConcurrentHashMap<String, Optional<ClassFile>> classes = new ConcurrentHashMap<>();
+
+    private IndexedAnnotations(List<AnnotationIndexReader> readers) {
+        this.readers = readers;
+    }
+
+    /**
+     * Loads every index on the class path of the current thread's context class loader.
+     * <p>
+     * Where the same class is indexed more than once, the first index on the class path wins.
+     * </p>
+     *
+     * @return the indexed annotations, which are empty if there are no indexes
+     * @throws UncheckedIOException     if an index cannot be read
+     * @throws IllegalArgumentException if an index is malformed
+     */
+    public static IndexedAnnotations load() {
+        return load(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Loads every index on the class path of a class loader.
+     *
+     * @param loader the class loader to search
+     * @return the indexed annotations, which are empty if there are no indexes
+     * @throws UncheckedIOException     if an index cannot be read
+     * @throws IllegalArgumentException if an index is malformed
+     */
+    public static IndexedAnnotations load(ClassLoader loader) {
+        var readers = new ArrayList<AnnotationIndexReader>();
+        try {
+            var resources = loader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                readers.add(new AnnotationIndexReader(map(resources.nextElement())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + INDEX_RESOURCE, e);
+        }
+        return new IndexedAnnotations(readers);
+    }
+
+    /**
+     * Reads an index by memory-mapping it.
+     *
+     * @param path the path of an index
+     * @return the indexed annotations
+     * @throws UncheckedIOException     if the index cannot be read
+     * @throws IllegalArgumentException if the index is malformed
+     */
+    public static IndexedAnnotations read(Path path) {
+        try {
+            return new IndexedAnnotations(List.of(new AnnotationIndexReader(map(path))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read annotation index " + path, e);
+        }
+    }
+
+    /**
+     * @param className the binary name of a class e.g. {@code "com.acme.Outer$Inner"}
+     * @return the indexed annotations of the class and its members, or empty if the class is not indexed
+     * @throws IllegalArgumentException if the index is malformed
+     */
+    public Optional<ClassFile> find(String className) {
+        var found = classes.get(className);
+        return found != null ? found : classes.computeIfAbsent(className, this::read);
+    }
+
+    /**
+     * @param type a class
+     * @return the indexed annotations of the class and its members, or empty if the class is not indexed
+     * @throws IllegalArgumentException if the index is malformed
+     */
+    public Optional<ClassFile> find(Class<?> type) {
+        return find(type.getName());
+    }
+
+    /**
+     * @return the binary names of every indexed class, in order
+     */
+    public Set<String> classNames() {
+        var names = new TreeSet<String>();
+        readers.forEach(r -> names.addAll(r.classNames()));
+        return Collections.unmodifiableSet(names);
+    }
+
+    private Optional<ClassFile> read(String className) {
+        for (var reader : readers) {
+            var classFile = reader.read(className);
+            if (classFile != null) {
+                return Optional.of(classFile);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ByteBuffer map(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid index location " + url, e);
+            }
+        }
+
+        try (var in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.List;
+
+/**
+ * Records the cost of annotation lookups as JFR events and {@link AnnotationStatistics} counters.
+ * <p>
+ * A lookup is bracketed by {@link #start()} and {@link #finish}. Unless a JFR recording has enabled the event or
+ * statistics are enabled, {@code start()} returns {@code null} without allocating or reading the clock, so the cost of
+ * an unrecorded lookup is a static field read and a volatile read.
+ * </p>
+ * <p>
+ * Lookups of a single annotation or of repeated annotations, on an element or on each class of a class rule, are
+ * recorded. Annotation set assertions and member rules compare precomputed sets of annotation types instead of looking
+ * up annotations, so they are not recorded.
+ * </p>
+ */
+final class LookupInstrumentation {
+
+    private static final boolean EVENTS = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private LookupInstrumentation() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Starts recording an annotation lookup.
+     *
+     * @return the lookup to pass to {@link #finish}, or {@code null} if it is not recorded
+     */
+    static Lookup start() {
+        Object event = EVENTS ? AnnotationLookupEvent.beginIfEnabled() : null;
+        if (event == null && !AnnotationStatistics.ENABLED) {
+            return null;
+        }
+        return new Lookup(event, AnnotationStatistics.ENABLED ? System.nanoTime() : 0L);
+    }
+
+    /**
+     * Finishes recording an annotation lookup.
+     *
+     * @param lookup  the lookup returned by {@link #start()}, or {@code null} if it is not recorded
+     * @param element the element whose annotations were searched
+     * @param type    the annotation type searched for
+     * @param found   {@code true} if the annotation was found
+     */
+    static void finish(Lookup lookup, AnnotatedElement element, Class<? extends Annotation> type, boolean found) {
+        if (lookup != null) {
+            lookup.finish(element, type, found);
+        }
+    }
+
+    /**
+     * Performs and records a lookup of an annotation in an index.
+     *
+     * @return the annotation, or {@code null} if it is not present
+     */
+    static <T extends Annotation> T get(AnnotatedElement element, AnnotationIndex index, Class<T> type) {
+        var lookup = start();
+        var found = index.get(type);
+        finish(lookup, element, type, found != null);
+        return found;
+    }
+
+    /**
+     * Performs and records a lookup of a repeatable annotation in an index.
+     *
+     * @return every instance of the annotation, which is empty if it is not present
+     */
+    static <T extends Annotation> List<T> repeated(AnnotatedElement element, AnnotationIndex index, Class<T> type) {
+        var lookup = start();
+        var found = index.repeated(type);
+        finish(lookup, element, type, !found.isEmpty());
+        return found;
+    }
+
+    static final class Lookup {
+
+        private final Object event;
+        private final long start;
+
+        private Lookup(Object event, long start) {
+            this.event = event;
+            this.start = start;
+        }
+
+        private void finish(AnnotatedElement element, Class<? extends Annotation> type, boolean found) {
+            if (AnnotationStatistics.ENABLED) {
+                AnnotationStatistics.record(type, found, System.nanoTime() - start);
+            }
+            if (event != null) {
+                AnnotationLookupEvent.commit(event, element, type, found);
+            }
+        }
+
+    }
+
+}
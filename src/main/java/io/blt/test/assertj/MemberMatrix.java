@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable member × annotation matrix of the declared methods, fields and constructors of a class.
+ * <p>
+ * Each row holds the annotation types of one member as an {@link AnnotationBits} set, so checking a column across
+ * every member is a single table scan. Members are sorted by name and then parameter types, synthetic members are
+ * excluded, and matrices are cached against their class via {@link ClassValue}.
+ * </p>
+ */
+final class MemberMatrix {
+
+    private static final ClassValue<MemberMatrix> MATRICES = new ClassValue<>() {
+        @Override
+        protected MemberMatrix computeValue(Class<?> type) {
+            return new MemberMatrix(type);
+        }
+    };
+
+    private static final Comparator<Member> MEMBER_ORDER = Comparator.comparing(MemberMatrix::describe);
+
+    private final Class<?> type;
+    private final List<Method> methods;
+    private final List<Field> fields;
+    private final List<Constructor<?>> constructors;
+    private final Map<Member, AnnotationBits> rows = new IdentityHashMap<>();
+
+    private MemberMatrix(Class<?> type) {
+        this.type = type;
+        this.methods = index(type.getDeclaredMethods());
+        this.fields = index(type.getDeclaredFields());
+        this.constructors = index(type.getDeclaredConstructors());
+    }
+
+    /**
+     * Returns the matrix of a {@code Class}, computing it on first use.
+     *
+     * @param type the class whose declared members are indexed
+     * @return the member × annotation matrix of {@code type}
+     */
+    static MemberMatrix of(Class<?> type) {
+        return MATRICES.get(type);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    List<Method> methods() {
+        return methods;
+    }
+
+    List<Field> fields() {
+        return fields;
+    }
+
+    List<Constructor<?>> constructors() {
+        return constructors;
+    }
+
+    /**
+     * @param member one of the members of this matrix
+     * @return the annotation types present on {@code member}
+     */
+    AnnotationBits row(Member member) {
+        return rows.get(member);
+    }
+
+    /**
+     * @return a short, stable description of a member e.g. {@code send(String, int)} or {@code recipient}
+     */
+    static String describe(Member member) {
+        if (member instanceof Executable) {
+            var name = member instanceof Constructor ? member.getDeclaringClass().getSimpleName() : member.getName();
+            return Arrays.stream(((Executable) member).getParameterTypes())
+                         .map(Class::getSimpleName)
+                         .collect(Collectors.joining(", ", name + "(", ")"));
+        }
+        return member.getName();
+    }
+
+    @SafeVarargs
+    private <M extends Member & AnnotatedElement> List<M> index(M... members) {
+        var indexed = Arrays.stream(members)
+                            .filter(m -> !m.isSynthetic())
+                            .sorted(MEMBER_ORDER)
+                            .collect(Collectors.toUnmodifiableList());
+        indexed.forEach(m -> rows.put(m, AnnotationIndex.of(m).types()));
+        return indexed;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Predicate;
+
+/**
+ * Predicates for filtering members in {@link MembersAssert}.
+ * <p>
+ * e.g. {@code assertMembersOf(type).methods().filteredOn(isPublic()).filteredOn(isGetter().negate())}
+ * </p>
+ */
+public final class MemberPredicates {
+
+    private MemberPredicates() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * @param <M> type of member
+     * @return a predicate matching {@code public} members
+     */
+    public static <M extends Member> Predicate<M> isPublic() {
+        return m -> Modifier.isPublic(m.getModifiers());
+    }
+
+    /**
+     * @param <M> type of member
+     * @return a predicate matching {@code static} members
+     */
+    public static <M extends Member> Predicate<M> isStatic() {
+        return m -> Modifier.isStatic(m.getModifiers());
+    }
+
+    /**
+     * @param name a member name
+     * @param <M>  type of member
+     * @return a predicate matching members named {@code name}
+     */
+    public static <M extends Member> Predicate<M> named(String name) {
+        return m -> m.getName().equals(name);
+    }
+
+    /**
+     * Matches JavaBeans style getters i.e. non-static methods with no parameters and a non-void return type, named
+     * {@code getX}, or {@code isX} if returning {@code boolean}.
+     *
+     * @return a predicate matching getters
+     */
+    public static Predicate<Method> isGetter() {
+        return m -> !Modifier.isStatic(m.getModifiers())
+                    && m.getParameterCount() == 0
+                    && (isAccessor(m.getName(), "get") && m.getReturnType() != void.class
+                        || isAccessor(m.getName(), "is") && m.getReturnType() == boolean.class);
+    }
+
+    private static boolean isAccessor(String name, String prefix) {
+        return name.length() > prefix.length()
+               && name.startsWith(prefix)
+               && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.AbstractIterableAssert;
+import org.assertj.core.api.ObjectAssert;
+
+/**
+ * Assertions over a list of the declared members of a class, backed by its member × annotation matrix.
+ * <p>
+ * Instances are created via {@link ClassMembersAssert}. Every AssertJ iterable assertion is available, including
+ * {@code filteredOn(...)} with the predicates of {@link MemberPredicates}; annotation assertions then scan the
+ * precomputed matrix rows of the remaining members rather than reflecting on each one.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void publicMethodsExceptGettersAreTransactional() {
+ *     assertMembersOf(NotificationPublisher.class)
+ *             .methods()
+ *             .filteredOn(isPublic())
+ *             .filteredOn(isGetter().negate())
+ *             .allHaveAnnotation(Transactional.class);
+ * }
+ * }</pre>
+ *
+ * @param <M> type of member
+ */
+public final class MembersAssert<M extends Member & AnnotatedElement>
+        extends AbstractIterableAssert<MembersAssert<M>, List<? extends M>, M, ObjectAssert<M>> {
+
+    private final MemberMatrix matrix;
+    private final String kind;
+
+    MembersAssert(MemberMatrix matrix, String kind, List<? extends M> members) {
+        super(members, MembersAssert.class);
+        this.matrix = matrix;
+        this.kind = kind;
+    }
+
+    /**
+     * Asserts that every member is annotated with a given annotation.
+     * <p>
+     * If any member is not annotated, the test fails listing every such member.
+     * </p>
+     *
+     * @param annotation the expected {@code Annotation} type
+     * @return this assertion object
+     */
+    public MembersAssert<M> allHaveAnnotation(Class<? extends Annotation> annotation) {
+        return failIfAnyViolations(annotation, false, "to have annotation of type ");
+    }
+
+    /**
+     * Asserts that no member is annotated with a given annotation.
+     * <p>
+     * If any member is annotated, the test fails listing every such member.
+     * </p>
+     *
+     * @param annotation the unexpected {@code Annotation} type
+     * @return this assertion object
+     */
+    public MembersAssert<M> noneHaveAnnotation(Class<? extends Annotation> annotation) {
+        return failIfAnyViolations(annotation, true, "not to have annotation of type ");
+    }
+
+    @Override
+    protected ObjectAssert<M> toAssert(M value, String description) {
+        return new ObjectAssert<>(value).as(description);
+    }
+
+    @Override
+    protected MembersAssert<M> newAbstractIterableAssert(Iterable<? extends M> iterable) {
+        var members = new ArrayList<M>();
+        iterable.forEach(members::add);
+        return new MembersAssert<>(matrix, kind, members);
+    }
+
+    private MembersAssert<M> failIfAnyViolations(Class<? extends Annotation> annotation,
+                                                 boolean violatedWhenPresent,
+                                                 String expectation) {
+        isNotNull();
+
+        var violations = new ArrayList<String>();
+        for (var member : actual) {
+            if (matrix.row(member).contains(annotation) == violatedWhenPresent) {
+                violations.add(MemberMatrix.describe(member));
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            var message = new StringBuilder(String.format(
+                    "Expecting all %s of %s %s%s but %d did not:",
+                    kind, matrix.type().getSimpleName(), expectation, annotation.getSimpleName(), violations.size()));
+            violations.forEach(v -> message.append(System.lineSeparator()).append("  ").append(v));
+            failWithMessage("%s", message);
+        }
+
+        return myself;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The memoized transitive closure of the meta-annotations of each annotation type.
+ * <p>
+ * The annotation-on-annotation graph is walked breadth first, once per annotation type, recording the depth at which
+ * each meta-annotation type is first reached. Each type is visited at most once, which handles cycles such as
+ * {@code @Documented} and {@code @Retention} annotating each other. A lookup then takes the shallowest match across
+ * the closures of every directly present annotation, which is the match a single breadth first search from all of
+ * them would reach first.
+ * </p>
+ */
+final class MetaAnnotations {
+
+    private static final ClassValue<Map<Class<? extends Annotation>, Meta>> CLOSURES = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Meta> computeValue(Class<?> type) {
+            return closure(type);
+        }
+    };
+
+    private MetaAnnotations() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Finds an annotation of a given type on an element, or on any of its annotations transitively.
+     *
+     * @param index the annotations of an element
+     * @param type  the {@code Annotation} type
+     * @param <T>   type of {@code Annotation}
+     * @return the nearest annotation of type {@code type}, preferring the first declared of equally near annotations,
+     *         or {@code null} if none is present
+     */
+    static <T extends Annotation> T find(AnnotationIndex index, Class<T> type) {
+        var direct = index.get(type);
+        if (direct != null) {
+            return direct;
+        }
+
+        Meta nearest = null;
+        for (var annotation : index.annotations()) {
+            var meta = CLOSURES.get(annotation.annotationType()).get(type);
+            if (meta != null && (nearest == null || meta.depth < nearest.depth)) {
+                nearest = meta;
+            }
+        }
+
+        return nearest != null ? type.cast(nearest.annotation) : null;
+    }
+
+    private static Map<Class<? extends Annotation>, Meta> closure(Class<?> annotationType) {
+        var closure = new HashMap<Class<? extends Annotation>, Meta>();
+        var pending = new ArrayDeque<Class<?>>();
+        pending.add(annotationType);
+
+        for (var depth = 1; !pending.isEmpty(); depth++) {
+            for (var remaining = pending.size(); remaining > 0; remaining--) {
+                for (var annotation : AnnotationIndex.of(pending.remove()).annotations()) {
+                    var type = annotation.annotationType();
+                    if (type != annotationType && closure.putIfAbsent(type, new Meta(annotation, depth)) == null) {
+                        pending.add(type);
+                    }
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(closure);
+    }
+
+    /**
+     * A meta-annotation and the number of annotation types between it and the annotation type whose closure it is in.
+     */
+    private static final class Meta {
+
+        private final Annotation annotation;
+        private final int depth;
+
+        private Meta(Annotation annotation, int depth) {
+            this.annotation = annotation;
+            this.depth = depth;
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Assertions over the annotations of the parameters of a method or constructor, by position.
+ * <p>
+ * Instances are created via {@link AnnotationAssertions#assertParameters(Executable)}. The parameter annotations and
+ * annotated parameter types of the executable are fetched once, and cached, rather than reflected upon per parameter.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void validatesRequestBody() throws Exception {
+ *     var method = NotificationController.class.getMethod("send", String.class, Notification.class);
+ *
+ *     assertParameters(method)
+ *             .hasAnnotation(1, Valid.class);
+ *     assertParameters(method)
+ *             .hasAnnotation(0, RequestParam.class)
+ *             .extracting(RequestParam::required)
+ *             .isEqualTo(false);
+ * }
+ * }</pre>
+ */
+public final class ParametersAssert {
+
+    private final Executable executable;
+    private final Parameter[] parameters;
+    private final List<AnnotationIndex> indexes;
+
+    ParametersAssert(Executable executable) {
+        this.executable = executable;
+        this.parameters = executable.getParameters();
+        this.indexes = AnnotationIndex.parametersOf(executable);
+    }
+
+    /**
+     * Asserts that the parameter at a given position is annotated with a given annotation.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     *
+     * @param position   the zero-based position of the parameter
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public <T extends Annotation> AnnotationAssert<T> hasAnnotation(int position, Class<T> annotation) {
+        var index = indexAt(position);
+        var found = LookupInstrumentation.get(parameters[position], index, annotation);
+        if (found == null) {
+            throw Failures.instance().failure(String.format(
+                    "Cannot find annotation of type %s on parameter %d of %s",
+                    annotation.getSimpleName(), position, MemberMatrix.describe(executable)));
+        }
+
+        return new AnnotationAssert<>(found);
+    }
+
+    /**
+     * Creates set-style assertions over the types of the annotations present on the parameter at a given position.
+     *
+     * @param position the zero-based position of the parameter
+     * @return an assertion object for the annotation types of the parameter
+     */
+    public AnnotationSetAssert annotationsOf(int position) {
+        return new AnnotationSetAssert(indexAt(position));
+    }
+
+    /**
+     * Asserts that every parameter is annotated with a given annotation.
+     * <p>
+     * If any parameter is not annotated, the test fails listing every such parameter.
+     * </p>
+     *
+     * @param annotation the expected {@code Annotation} type
+     * @return this assertion object
+     */
+    public ParametersAssert allHaveAnnotation(Class<? extends Annotation> annotation) {
+        return failIfAnyViolations(annotation, false, "to have annotation of type ");
+    }
+
+    /**
+     * Asserts that no parameter is annotated with a given annotation.
+     * <p>
+     * If any parameter is annotated, the test fails listing every such parameter.
+     * </p>
+     *
+     * @param annotation the unexpected {@code Annotation} type
+     * @return this assertion object
+     */
+    public ParametersAssert noneHaveAnnotation(Class<? extends Annotation> annotation) {
+        return failIfAnyViolations(annotation, true, "not to have annotation of type ");
+    }
+
+    private AnnotationIndex indexAt(int position) {
+        if (position < 0 || position >= indexes.size()) {
+            throw Failures.instance().failure(String.format(
+                    "Expecting a parameter at position %d but %s has %d parameters",
+                    position, MemberMatrix.describe(executable), indexes.size()));
+        }
+
+        return indexes.get(position);
+    }
+
+    private ParametersAssert failIfAnyViolations(Class<? extends Annotation> annotation,
+                                                 boolean violatedWhenPresent,
+                                                 String expectation) {
+        var violations = new ArrayList<String>();
+        for (var i = 0; i < indexes.size(); i++) {
+            if (indexes.get(i).types().contains(annotation) == violatedWhenPresent) {
+                violations.add(i + ": " + parameters[i]);
+            }
+        }
+
+        ClassesAssert.failIfAnyViolations(
+                "parameters of " + MemberMatrix.describe(executable),
+                violations,
+                expectation + annotation.getSimpleName());
+        return this;
+    }
+
+}
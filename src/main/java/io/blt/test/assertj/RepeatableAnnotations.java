@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds every instance of a {@link Repeatable} annotation, unwrapping its container transparently.
+ * <p>
+ * The container type and its {@code value()} accessor are resolved once per repeatable type and cached via
+ * {@link ClassValue}.
+ * </p>
+ */
+final class RepeatableAnnotations {
+
+    private static final ClassValue<Container> CONTAINERS = new ClassValue<>() {
+        @Override
+        protected Container computeValue(Class<?> type) {
+            var repeatable = type.getAnnotation(Repeatable.class);
+            return repeatable == null ? Container.NONE : new Container(repeatable.value());
+        }
+    };
+
+    private RepeatableAnnotations() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Finds every annotation of a given type, whether directly present or held by its container.
+     *
+     * @param index the annotations of an element
+     * @param type  the {@code Annotation} type, which need not be repeatable
+     * @param <T>   type of {@code Annotation}
+     * @return every annotation of type {@code type}, in declaration order
+     */
+    static <T extends Annotation> List<T> find(AnnotationIndex index, Class<T> type) {
+        var found = new ArrayList<T>();
+
+        var direct = index.get(type);
+        if (direct != null) {
+            found.add(direct);
+        }
+
+        var container = CONTAINERS.get(type);
+        if (container != Container.NONE) {
+            var instance = index.get(container.type);
+            if (instance != null) {
+                for (var value : container.values(instance)) {
+                    found.add(type.cast(value));
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private static final class Container {
+
+        static final Container NONE = new Container(null);
+
+        private final Class<? extends Annotation> type;
+        private final AnnotationAttributes attributes;
+        private final int value;
+
+        private Container(Class<? extends Annotation> type) {
+            this.type = type;
+            this.attributes = type == null ? null : AnnotationAttributes.of(type);
+            this.value = type == null ? -1 : attributes.indexOf("value");
+        }
+
+        private Annotation[] values(Annotation instance) {
+            return (Annotation[]) attributes.value(instance, value);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+/**
+ * Options that widen where an annotation is searched for, beyond those directly present on an element.
+ * <p>
+ * Options are passed to the {@code assertHasAnnotation(...)} overloads of {@link AnnotationAssertions} and may be
+ * combined.
+ * </p>
+ */
+public enum SearchOption {
+
+    /**
+     * Also search meta-annotations i.e. the annotations present on an element's annotations, transitively.
+     * <p>
+     * e.g. {@code @Transactional} is found on a class annotated with {@code @DomainService}, given
+     * {@code @Service @Transactional @interface DomainService}.
+     * </p>
+     */
+    META_ANNOTATIONS,
+
+    /**
+     * Also search the type hierarchy of an element, nearest first.
+     * <p>
+     * For a {@code Class}, its superclasses and interfaces are searched for any annotation. This is broader than
+     * {@link java.lang.annotation.Inherited @Inherited} semantics, which {@code Class} lookups honour without this
+     * option: annotations that are not {@code @Inherited}, and those on interfaces, are found too, as proxy-based
+     * frameworks find them. For a {@code Method}, every method it overrides or implements is searched, comparing
+     * parameter types after resolving the type arguments of generic supertypes, and for a method {@code Parameter},
+     * the parameter at the same position of each of those methods. A {@code Field} or {@code Constructor} has no
+     * hierarchy.
+     * </p>
+     */
+    HIERARCHY;
+
+    static boolean isSet(SearchOption option, SearchOption[] options) {
+        for (var o : options) {
+            if (o == option) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
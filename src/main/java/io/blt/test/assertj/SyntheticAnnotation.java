@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The handler of an annotation instance synthesized from a table of attribute values.
+ * <p>
+ * Values are held in an array aligned with the {@link AnnotationAttributes} of the annotation type, and the hash code
+ * is computed once, on construction. Comparisons against another synthetic instance read both tables directly,
+ * and comparisons against any other instance read its values through the precomputed accessors of the attribute
+ * table; in neither case are this instance's arrays cloned. Only the attribute methods called by user code return
+ * copies of array values, as the {@link Annotation} contract requires.
+ * </p>
+ */
+final class SyntheticAnnotation implements InvocationHandler {
+
+    private final Class<? extends Annotation> type;
+    private final AnnotationAttributes attributes;
+    private final Object[] values;
+    private final int hashCode;
+
+    private SyntheticAnnotation(Class<? extends Annotation> type, Object[] values) {
+        this.type = type;
+        this.attributes = AnnotationAttributes.of(type);
+        this.values = values;
+        this.hashCode = hash();
+    }
+
+    /**
+     * Creates an instance of an annotation type.
+     *
+     * @param type   the {@code Annotation} type
+     * @param values the value of every attribute, ordered as in the {@link AnnotationAttributes} of {@code type},
+     *               which must not be modified afterwards
+     * @param <T>    type of {@code Annotation}
+     * @return an instance of {@code type}
+     */
+    static <T extends Annotation> T of(Class<T> type, Object[] values) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, new SyntheticAnnotation(type, values)));
+    }
+
+    /**
+     * @param annotation an annotation instance
+     * @return the handler of {@code annotation} if it is synthetic, else {@code null}
+     */
+    static SyntheticAnnotation handlerOf(Object annotation) {
+        if (Proxy.isProxyClass(annotation.getClass())) {
+            var handler = Proxy.getInvocationHandler(annotation);
+            return handler instanceof SyntheticAnnotation ? (SyntheticAnnotation) handler : null;
+        }
+        return null;
+    }
+
+    /**
+     * @param value an attribute value
+     * @return a copy of {@code value} if it is an array, else {@code value}
+     */
+    static Object copyOf(Object value) {
+        if (!value.getClass().isArray()) {
+            return value;
+        }
+        var length = Array.getLength(value);
+        var copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * @param index an attribute index
+     * @return the value of the attribute, which must not be modified
+     */
+    Object value(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        var name = method.getName();
+        if (args != null && args.length == 1 && name.equals("equals")) {
+            return isEqualTo(args[0]);
+        }
+        if (args == null || args.length == 0) {
+            switch (name) {
+                case "hashCode":
+                    return hashCode;
+                case "toString":
+                    return render();
+                case "annotationType":
+                    return type;
+                default:
+                    var index = attributes.indexOf(name);
+                    if (index >= 0) {
+                        return copyOf(values[index]);
+                    }
+            }
+        }
+        throw new IllegalStateException("Unsupported method " + method + " of synthetic annotation");
+    }
+
+    private boolean isEqualTo(Object other) {
+        if (!type.isInstance(other)) {
+            return false;
+        }
+        var synthetic = handlerOf(other);
+        if (synthetic != null && synthetic.hashCode != hashCode) {
+            return false;
+        }
+
+        var annotation = (Annotation) other;
+        for (var i = 0; i < values.length; i++) {
+            if (!Objects.deepEquals(values[i], attributes.value(annotation, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash() {
+        var hash = 0;
+        for (var i = 0; i < values.length; i++) {
+            hash += (127 * attributes.name(i).hashCode()) ^ hashOf(values[i]);
+        }
+        return hash;
+    }
+
+    private String render() {
+        var rendered = new StringBuilder("@").append(type.getName()).append('(');
+        for (var i = 0; i < values.length; i++) {
+            rendered.append(i == 0 ? "" : ", ").append(attributes.name(i)).append('=');
+            if (values[i].getClass().isArray()) {
+                var elements = Arrays.deepToString(new Object[] {values[i]});
+                rendered.append('{').append(elements, 2, elements.length() - 2).append('}');
+            } else {
+                rendered.append(values[i] instanceof String ? "\"" + values[i] + "\"" : values[i]);
+            }
+        }
+        return rendered.append(')').toString();
+    }
+
+    private static int hashOf(Object value) {
+        if (value instanceof Object[]) {
+            return Arrays.hashCode((Object[]) value);
+        } else if (value instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) value);
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        } else if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        } else if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        } else if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        } else if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        }
+        return value.hashCode();
+    }
+
+}
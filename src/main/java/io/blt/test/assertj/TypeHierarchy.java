@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The memoized type hierarchy of each class and override chain of each method.
+ * <p>
+ * Both are cached against the owning {@code Class} via {@link ClassValue}, so the superclass and interface walk is
+ * paid once per class rather than once per assertion. Override chains are cached against the class the method is
+ * invoked on, since a method inherited from a superclass may implement an interface only that class declares.
+ * </p>
+ * <p>
+ * Parameter types are compared after resolving the type variables of generic supertypes, so
+ * {@code handle(String)} in a class implementing {@code Handler<String>} overrides {@code Handler.handle(T)}.
+ * </p>
+ */
+final class TypeHierarchy {
+
+    private static final ClassValue<List<Class<?>>> HIERARCHIES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            return hierarchy(type);
+        }
+    };
+
+    private static final ClassValue<Map<TypeVariable<?>, Type>> TYPE_ARGUMENTS = new ClassValue<>() {
+        @Override
+        protected Map<TypeVariable<?>, Type> computeValue(Class<?> type) {
+            return typeArguments(type);
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<Method, List<Method>>> OVERRIDE_CHAINS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Method, List<Method>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private TypeHierarchy() {
+        throw new IllegalAccessError("Utility class should be accessed statically and never constructed");
+    }
+
+    /**
+     * Returns a class followed by all of its superclasses and interfaces, breadth first.
+     *
+     * @param type the class
+     * @return {@code type} and every distinct supertype, nearest first
+     */
+    static List<Class<?>> of(Class<?> type) {
+        return HIERARCHIES.get(type);
+    }
+
+    /**
+     * Returns a method followed by every method it overrides or implements, nearest first.
+     *
+     * @param method the method
+     * @return {@code method} and every method it overrides
+     * @see #of(Method, Class)
+     */
+    static List<Method> of(Method method) {
+        return of(method, method.getDeclaringClass());
+    }
+
+    /**
+     * Returns every method that a method, as invoked on a given class, overrides, implements or is overridden by,
+     * nearest to that class first.
+     * <p>
+     * A method overrides another declared by a supertype when it has the same name and parameter types, once the
+     * type arguments {@code target} binds are substituted, and the other is neither {@code static} nor
+     * {@code private} (nor package-private in a different package).
+     * </p>
+     *
+     * @param method the method e.g. as returned by {@code target.getMethod(...)}
+     * @param target the class the method is invoked on, which is or extends the declaring class of {@code method}
+     * @return {@code method} and every method in the hierarchy of {@code target} with the same signature
+     * @throws IllegalArgumentException if {@code method} is not a member of {@code target}
+     */
+    static List<Method> of(Method method, Class<?> target) {
+        requireMember(method, target);
+
+        var chains = OVERRIDE_CHAINS.get(target);
+        var chain = chains.get(method);
+        return chain != null ? chain : chains.computeIfAbsent(method, m -> overrideChain(m, target));
+    }
+
+    /**
+     * @param method a method
+     * @param target a class
+     * @throws IllegalArgumentException if {@code method} is not a member of {@code target}
+     */
+    static void requireMember(Method method, Class<?> target) {
+        if (!method.getDeclaringClass().isAssignableFrom(target)) {
+            throw new IllegalArgumentException(
+                    method.getDeclaringClass().getName() + " is not a supertype of " + target.getName());
+        }
+    }
+
+    private static List<Class<?>> hierarchy(Class<?> type) {
+        var hierarchy = new LinkedHashSet<Class<?>>();
+        var pending = new ArrayDeque<Class<?>>();
+        pending.add(type);
+
+        while (!pending.isEmpty()) {
+            var next = pending.remove();
+            if (hierarchy.add(next)) {
+                if (next.getSuperclass() != null) {
+                    pending.add(next.getSuperclass());
+                }
+                pending.addAll(Arrays.asList(next.getInterfaces()));
+            }
+        }
+
+        return List.copyOf(hierarchy);
+    }
+
+    private static Map<TypeVariable<?>, Type> typeArguments(Class<?> type) {
+        var arguments = new HashMap<TypeVariable<?>, Type>();
+
+        // Each supertype follows the subtype that reached it, so its own variables are bound before its supertypes
+        for (var next : of(type)) {
+            var supertypes = new ArrayList<>(Arrays.asList(next.getGenericInterfaces()));
+            supertypes.add(next.getGenericSuperclass());
+
+            for (var supertype : supertypes) {
+                if (supertype instanceof ParameterizedType) {
+                    var parameterized = (ParameterizedType) supertype;
+                    var variables = ((Class<?>) parameterized.getRawType()).getTypeParameters();
+                    var values = parameterized.getActualTypeArguments();
+                    for (var i = 0; i < variables.length; i++) {
+                        arguments.putIfAbsent(variables[i], resolve(values[i], arguments));
+                    }
+                }
+            }
+        }
+
+        return Map.copyOf(arguments);
+    }
+
+    private static List<Method> overrideChain(Method method, Class<?> target) {
+        if (!isOverridable(method)) {
+            return List.of(method);
+        }
+
+        var signature = signature(method, target);
+        var chain = new ArrayList<Method>();
+
+        for (var type : of(target)) {
+            for (var candidate : type.getDeclaredMethods()) {
+                if (candidate.equals(method) || overrides(method, signature, candidate, target)) {
+                    chain.add(candidate);
+                }
+            }
+        }
+
+        return List.copyOf(chain);
+    }
+
+    private static boolean overrides(Method method, Class<?>[] signature, Method candidate, Class<?> target) {
+        return isOverridable(candidate)
+               && !candidate.isSynthetic()
+               && candidate.getName().equals(method.getName())
+               && candidate.getParameterCount() == signature.length
+               && (!isPackagePrivate(candidate) || samePackage(candidate, method))
+               && Arrays.equals(signature(candidate, target), signature);
+    }
+
+    /**
+     * @return the erasure of each parameter type of {@code method}, with the type arguments bound by {@code target}
+     */
+    private static Class<?>[] signature(Method method, Class<?> target) {
+        var arguments = TYPE_ARGUMENTS.get(target);
+        var types = method.getGenericParameterTypes();
+        if (types.length != method.getParameterCount()) {
+            return method.getParameterTypes();
+        }
+
+        var signature = new Class<?>[types.length];
+        for (var i = 0; i < types.length; i++) {
+            signature[i] = erase(resolve(types[i], arguments), arguments);
+        }
+        return signature;
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> arguments) {
+        var resolved = type instanceof TypeVariable ? arguments.get(type) : null;
+        return resolved != null ? resolved : type;
+    }
+
+    private static Class<?> erase(Type type, Map<TypeVariable<?>, Type> arguments) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            var component = resolve(((GenericArrayType) type).getGenericComponentType(), arguments);
+            return Array.newInstance(erase(component, arguments), 0).getClass();
+        }
+        if (type instanceof TypeVariable) {
+            return erase(resolve(((TypeVariable<?>) type).getBounds()[0], arguments), arguments);
+        }
+        if (type instanceof WildcardType) {
+            return erase(resolve(((WildcardType) type).getUpperBounds()[0], arguments), arguments);
+        }
+        return Object.class;
+    }
+
+    private static boolean isOverridable(Method method) {
+        var modifiers = method.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers);
+    }
+
+    private static boolean isPackagePrivate(Method method) {
+        var modifiers = method.getModifiers();
+        return !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers) && !Modifier.isPrivate(modifiers);
+    }
+
+    private static boolean samePackage(Method a, Method b) {
+        return Objects.equals(a.getDeclaringClass().getPackageName(), b.getDeclaringClass().getPackageName());
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedTypeVariable;
+import java.lang.reflect.AnnotatedWildcardType;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Assertions for the type-use annotations of a (possibly generic) type, at any depth.
+ * <p>
+ * Instances are created via {@code AnnotationAssertions.assertTypeUse(...)}. Navigation is lazy, so only the types
+ * along the asserted path are resolved e.g. for {@code Map<String, List<@NotNull Item>>} the key type is never
+ * touched by {@code typeArgument(1).typeArgument(0)}.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void itemsAreNotNull() throws Exception {
+ *     var field = Order.class.getDeclaredField("items");
+ *
+ *     assertTypeUse(field)
+ *             .typeArgument(0)
+ *             .hasAnnotation(NotNull.class);
+ * }
+ * }</pre>
+ */
+public final class TypeUseAssert extends AbstractAssert<TypeUseAssert, AnnotatedType> {
+
+    private final String path;
+
+    TypeUseAssert(AnnotatedType actual, String path) {
+        super(actual, TypeUseAssert.class);
+        this.path = path;
+    }
+
+    /**
+     * Navigates to a type argument of a parameterized type e.g. {@code String} of {@code List<String>}.
+     *
+     * @param index the zero-based index of the type argument
+     * @return an assertion object for the type argument
+     */
+    public TypeUseAssert typeArgument(int index) {
+        var parameterized = as(AnnotatedParameterizedType.class, "a parameterized type");
+        return navigate(parameterized.getAnnotatedActualTypeArguments(), index, "typeArgument");
+    }
+
+    /**
+     * Navigates to the component type of an array type e.g. {@code String} of {@code String[]}.
+     *
+     * @return an assertion object for the component type
+     */
+    public TypeUseAssert componentType() {
+        var array = as(AnnotatedArrayType.class, "an array type");
+        return new TypeUseAssert(array.getAnnotatedGenericComponentType(), path + ".componentType()");
+    }
+
+    /**
+     * Navigates to an upper bound of a wildcard or type variable e.g. {@code Number} of {@code ? extends Number}.
+     *
+     * @param index the zero-based index of the bound
+     * @return an assertion object for the bound
+     */
+    public TypeUseAssert upperBound(int index) {
+        if (actual instanceof AnnotatedTypeVariable) {
+            return navigate(((AnnotatedTypeVariable) actual).getAnnotatedBounds(), index, "upperBound");
+        }
+        var wildcard = as(AnnotatedWildcardType.class, "a wildcard or type variable");
+        return navigate(wildcard.getAnnotatedUpperBounds(), index, "upperBound");
+    }
+
+    /**
+     * Navigates to a lower bound of a wildcard e.g. {@code Integer} of {@code ? super Integer}.
+     *
+     * @param index the zero-based index of the bound
+     * @return an assertion object for the bound
+     */
+    public TypeUseAssert lowerBound(int index) {
+        var wildcard = as(AnnotatedWildcardType.class, "a wildcard");
+        return navigate(wildcard.getAnnotatedLowerBounds(), index, "lowerBound");
+    }
+
+    /**
+     * Asserts that this type use is annotated with a given annotation.
+     * <p>
+     * If present, an assertion object is returned for the found annotation instance, else the test fails.
+     * </p>
+     *
+     * @param annotation the expected {@code Annotation} type
+     * @param <T>        type of {@code Annotation}
+     * @return an assertion object for the found annotation i.e. {@code AnnotationAssert<T extends Annotation>}
+     */
+    public <T extends Annotation> AnnotationAssert<T> hasAnnotation(Class<T> annotation) {
+        isNotNull();
+        var instance = actual.getAnnotation(annotation);
+
+        if (instance == null) {
+            throw Failures.instance().failure(
+                    "Cannot find annotation of type " + annotation.getSimpleName() + " on " + describe());
+        }
+
+        return new AnnotationAssert<>(instance);
+    }
+
+    /**
+     * Asserts that this type use is not annotated with a given annotation.
+     *
+     * @param annotation the unexpected {@code Annotation} type
+     * @return this assertion object
+     */
+    public TypeUseAssert doesNotHaveAnnotation(Class<? extends Annotation> annotation) {
+        isNotNull();
+
+        if (actual.getAnnotation(annotation) != null) {
+            throw Failures.instance().failure(
+                    "Unexpected annotation of type " + annotation.getSimpleName() + " on " + describe());
+        }
+
+        return this;
+    }
+
+    private <A extends AnnotatedType> A as(Class<A> kind, String description) {
+        isNotNull();
+
+        if (!kind.isInstance(actual)) {
+            throw Failures.instance().failure("Expecting " + describe() + " to be " + description);
+        }
+
+        return kind.cast(actual);
+    }
+
+    private TypeUseAssert navigate(AnnotatedType[] types, int index, String step) {
+        if (index < 0 || index >= types.length) {
+            throw Failures.instance().failure(String.format(
+                    "Expecting %s to have %s %d but it has %d", describe(), step, index, types.length));
+        }
+
+        return new TypeUseAssert(types[index], path + "." + step + "(" + index + ")");
+    }
+
+    private String describe() {
+        return actual.getType().getTypeName() + (path.isEmpty() ? "" : " at " + path.substring(1));
+    }
+
+}
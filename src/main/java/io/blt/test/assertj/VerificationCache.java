@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A persistent record of which classes have already been verified against which rules.
+ * <p>
+ * Each entry is a 128-bit key hashed from a rule fingerprint and the bytes of a class file, so an entry is
+ * invalidated as soon as either the rule or the class changes. Only classes that complied with a rule are recorded;
+ * violations are always re-evaluated.
+ * </p>
+ * <p>
+ * The file is memory-mapped for reading and guarded by a {@link java.nio.channels.FileLock} for the duration of each
+ * read or append, so it can be shared by concurrently forked JVMs. Should it grow beyond {@value #MAX_ENTRIES}
+ * entries, or be unreadable, it is reset.
+ * </p>
+ */
+final class VerificationCache {
+
+    static final Path DEFAULT_PATH = Path.of("target", "blt-assertj", "verification.cache");
+
+    static final int MAX_ENTRIES = 1 << 20;
+
+    private static final int MAGIC = 0x424C5443;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int KEY_SIZE = 16;
+
+    private static final ConcurrentHashMap<Path, VerificationCache> CACHES = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Optional<String>> FINGERPRINTS = new ClassValue<>() {
+        @Override
+        protected Optional<String> computeValue(Class<?> type) {
+            if (type.isAnnotationPresent(Inherited.class)) {
+                return Optional.empty();
+            }
+            var bytes = classFile(type.getClassLoader(), type.getName());
+            return bytes != null ? Optional.of(type.getName() + "@" + toHex(digest().digest(bytes))) : Optional.empty();
+        }
+    };
+
+    private final Path path;
+
+    private VerificationCache(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @param path the location of the cache file, which is created on first use
+     * @return the cache for {@code path}, shared by every caller in this JVM
+     */
+    static VerificationCache at(Path path) {
+        return CACHES.computeIfAbsent(path.toAbsolutePath().normalize(), VerificationCache::new);
+    }
+
+    /**
+     * Fingerprints an annotation type by its name and class file.
+     * <p>
+     * Whether a class has an {@link Inherited} annotation also depends upon its superclasses, which are not part of
+     * its class file, so such annotations cannot be fingerprinted.
+     * </p>
+     *
+     * @param annotation an annotation type
+     * @return a fingerprint of {@code annotation}, or {@code null} if results involving it must not be cached
+     */
+    static String fingerprint(Class<? extends Annotation> annotation) {
+        return FINGERPRINTS.get(annotation).orElse(null);
+    }
+
+    /**
+     * Begins recording the classes that comply with a rule.
+     *
+     * @param fingerprint identifies the rule and everything else its result depends upon
+     * @param loader      the class loader from which class files are read
+     * @return a session whose {@link Session#commit()} persists every class that complied
+     */
+    Session session(String fingerprint, ClassLoader loader) {
+        return new Session(fingerprint.getBytes(StandardCharsets.UTF_8), loader, read());
+    }
+
+    synchronized Set<ByteBuffer> read() {
+        if (!Files.exists(path)) {
+            return Set.of();
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             var lock = channel.lock()) {
+            var count = count(channel);
+            if (count <= 0) {
+                return Set.of();
+            }
+
+            var keys = new HashSet<ByteBuffer>(count * 2);
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) count * KEY_SIZE);
+            for (var i = 0; i < count; i++) {
+                var key = new byte[KEY_SIZE];
+                buffer.get(key);
+                keys.add(ByteBuffer.wrap(key));
+            }
+            return keys;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read verification cache " + path, e);
+        }
+    }
+
+    synchronized void append(Collection<ByteBuffer> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (var channel = FileChannel.open(
+                    path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 var lock = channel.lock()) {
+                var count = count(channel);
+                if (count < 0 || count + keys.size() > MAX_ENTRIES) {
+                    count = 0;
+                }
+
+                var entries = ByteBuffer.allocate(keys.size() * KEY_SIZE);
+                keys.forEach(k -> entries.put(k.duplicate()));
+                channel.write(entries.flip(), HEADER_SIZE + (long) count * KEY_SIZE);
+
+                var header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(count + keys.size());
+                channel.write(header.flip(), 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write verification cache " + path, e);
+        }
+    }
+
+    /**
+     * @return the number of entries, or {@code -1} if the file is not a valid cache
+     */
+    private static int count(FileChannel channel) throws IOException {
+        var size = channel.size();
+        if (size < HEADER_SIZE) {
+            return size == 0 ? 0 : -1;
+        }
+
+        var header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            return -1;
+        }
+
+        var count = header.getInt();
+        return count >= 0 && HEADER_SIZE + (long) count * KEY_SIZE <= size ? count : -1;
+    }
+
+    private static byte[] classFile(ClassLoader loader, String className) {
+        var resource = className.replace('.', '/') + ".class";
+        try (var in = loader != null
+                      ? loader.getResourceAsStream(resource)
+                      : ClassLoader.getSystemResourceAsStream(resource)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        var hex = new StringBuilder(bytes.length * 2);
+        for (var b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The classes that complied with a single evaluation of a rule.
+     * <p>
+     * Sessions are thread-safe, so a rule may be evaluated in parallel.
+     * </p>
+     */
+    final class Session {
+
+        private final byte[] fingerprint;
+        private final ClassLoader loader;
+        private final Set<ByteBuffer> verified;
+        private final Set<ByteBuffer> complied = ConcurrentHashMap.newKeySet();
+
+        private Session(byte[] fingerprint, ClassLoader loader, Set<ByteBuffer> verified) {
+            this.fingerprint = fingerprint;
+            this.loader = loader;
+            this.verified = verified;
+        }
+
+        /**
+         * @param className the binary name of a class
+         * @return the key of the class for this rule, or {@code null} if its class file cannot be read
+         */
+        ByteBuffer key(String className) {
+            var bytes = classFile(loader, className);
+            if (bytes == null) {
+                return null;
+            }
+
+            var digest = digest();
+            digest.update(fingerprint);
+            digest.update((byte) 0);
+            return ByteBuffer.wrap(digest.digest(bytes), 0, KEY_SIZE).slice();
+        }
+
+        /**
+         * @return {@code true} if the class identified by {@code key} has already complied with this rule
+         */
+        boolean isVerified(ByteBuffer key) {
+            return verified.contains(key);
+        }
+
+        void complied(ByteBuffer key) {
+            complied.add(key);
+        }
+
+        /**
+         * Persists every class that complied with this rule.
+         */
+        void commit() {
+            append(complied);
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import org.assertj.core.internal.Failures;
+
+/**
+ * A file to which bulk rules stream every violation as it is found, in SARIF or JUnit XML format.
+ * <p>
+ * By default, a failing bulk rule lists every violation in its failure message, so every violation is held in
+ * memory until the rule completes. A rule with a report instead writes each violation out immediately, retaining
+ * only the first {@link #withSummaryLimit(int) few} in sorted order for the failure message, which then refers to the
+ * file for the rest. No stack traces are recorded.
+ * </p>
+ * <p>
+ * Violations are streamed to a temporary file next to the report, which is written once the rule completes so that
+ * its header can include the number of violations.
+ * </p>
+ * <p>
+ * Each rule rewrites the file, so rules whose reports must be kept should each be given their own file.
+ * </p>
+ * e.g.
+ * <pre>{@code
+ * @Test
+ * void servicesAreTransactional() {
+ *     assertThatClassesIn("com.acme")
+ *             .reportingTo(ViolationReport.sarif(Path.of("target/blt-assertj/transactional.sarif")))
+ *             .annotatedWith(Service.class)
+ *             .allHaveAnnotation(Transactional.class);
+ * }
+ * }</pre>
+ */
+public final class ViolationReport {
+
+    /**
+     * The default number of violations listed in the failure message of a rule.
+     */
+    public static final int DEFAULT_SUMMARY_LIMIT = 20;
+
+    private final Format format;
+    private final Path file;
+    private final int summaryLimit;
+
+    private ViolationReport(Format format, Path file, int summaryLimit) {
+        this.format = format;
+        this.file = file;
+        this.summaryLimit = summaryLimit;
+    }
+
+    /**
+     * Creates a report in SARIF 2.1.0 format, with each violation as a result located at the violating class.
+     *
+     * @param file the report file, which is created or replaced by each rule
+     * @return a SARIF report
+     */
+    public static ViolationReport sarif(Path file) {
+        return new ViolationReport(Format.SARIF, file, DEFAULT_SUMMARY_LIMIT);
+    }
+
+    /**
+     * Creates a report in JUnit XML format, with each violation as a failed test case named after the violating
+     * class.
+     *
+     * @param file the report file, which is created or replaced by each rule
+     * @return a JUnit XML report
+     */
+    public static ViolationReport junitXml(Path file) {
+        return new ViolationReport(Format.JUNIT_XML, file, DEFAULT_SUMMARY_LIMIT);
+    }
+
+    /**
+     * @param limit the number of violations listed in the failure message of a rule
+     * @return a new report writing to the same file that lists at most {@code limit} violations on failure
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    public ViolationReport withSummaryLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Summary limit must not be negative but was " + limit);
+        }
+        return new ViolationReport(format, file, limit);
+    }
+
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+
+    /**
+     * Starts writing the report of a rule.
+     *
+     * @param description a description of the checked elements e.g. {@code classes in com.acme}
+     * @param expectation the expectation of the rule e.g. {@code to have annotation of type Service}
+     * @return a run to which violations are added
+     */
+    Run open(String description, String expectation) {
+        try {
+            var parent = Files.createDirectories(file.toAbsolutePath().getParent());
+            var results = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            return new Run(results, Files.newBufferedWriter(results, StandardCharsets.UTF_8), description, expectation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write violation report " + file, e);
+        }
+    }
+
+    /**
+     * The report of a single rule, to which violations may be added concurrently.
+     */
+    final class Run implements AutoCloseable {
+
+        private final Path results;
+        private final Writer writer;
+        private final String description;
+        private final String expectation;
+        private final PriorityQueue<String> summary = new PriorityQueue<>(Comparator.reverseOrder());
+        private int count;
+        private boolean closed;
+
+        private Run(Path results, Writer writer, String description, String expectation) {
+            this.results = results;
+            this.writer = writer;
+            this.description = description;
+            this.expectation = expectation;
+        }
+
+        /**
+         * Writes a violation to the report, retaining it for the failure message if it is among the first
+         * {@code summaryLimit} violations in sorted order, so the summary does not depend on the order in which
+         * violations are found.
+         *
+         * @param name      the name of the violating class, by which the violation is located
+         * @param violation the violation message
+         */
+        synchronized void add(String name, String violation) {
+            try {
+                format.result(writer, count++, name, violation, expectation);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write violation report " + file, e);
+            }
+            if (summaryLimit > 0 && (summary.size() < summaryLimit || violation.compareTo(summary.peek()) < 0)) {
+                summary.add(violation);
+                if (summary.size() > summaryLimit) {
+                    summary.poll();
+                }
+            }
+        }
+
+        /**
+         * Completes the report, then fails listing the retained violations if any were added.
+         */
+        void failIfAny() {
+            close();
+            if (count > 0) {
+                var message = new StringBuilder(String.format(
+                        "Expecting all %s %s but %d did not:", description, expectation, count));
+                var sorted = new ArrayList<>(summary);
+                Collections.sort(sorted);
+                sorted.forEach(v -> message.append(System.lineSeparator()).append("  ").append(v));
+                if (count > summary.size()) {
+                    message.append(System.lineSeparator())
+                           .append("  ... and ").append(count - summary.size()).append(" more");
+                }
+                message.append(System.lineSeparator()).append("See ").append(file).append(" for every violation");
+                throw Failures.instance().failure(message.toString());
+            }
+        }
+
+        /**
+         * Completes the report, if not already complete.
+         */
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writer.close();
+                try (var out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                     var in = Files.newBufferedReader(results, StandardCharsets.UTF_8)) {
+                    format.begin(out, "Expecting all " + description + " " + expectation, expectation, count);
+                    in.transferTo(out);
+                    format.end(out);
+                } finally {
+                    Files.deleteIfExists(results);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write violation report " + file, e);
+            }
+        }
+    }
+
+    private enum Format {
+
+        SARIF {
+            @Override
+            void begin(Writer writer, String rule, String expectation, int violations) throws IOException {
+                writer.write("{\"version\":\"2.1.0\",");
+                writer.write("\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",");
+                writer.write("\"runs\":[{\"tool\":{\"driver\":{\"name\":\"blt-assertj-annotations\",\"rules\":[{");
+                writer.write("\"id\":" + json(expectation) + ",\"shortDescription\":{\"text\":" + json(rule) + "}");
+                writer.write("}]}},\"results\":[");
+            }
+
+            @Override
+            void result(Writer writer, int index, String name, String violation, String expectation)
+                    throws IOException {
+                writer.write(index == 0 ? "\n" : ",\n");
+                writer.write("{\"ruleId\":" + json(expectation) + ",\"level\":\"error\",");
+                writer.write("\"message\":{\"text\":" + json(violation) + "},");
+                writer.write("\"locations\":[{\"logicalLocations\":[{");
+                writer.write("\"fullyQualifiedName\":" + json(name) + ",\"kind\":\"type\"}]}]}");
+            }
+
+            @Override
+            void end(Writer writer) throws IOException {
+                writer.write("\n]}]}\n");
+            }
+        },
+
+        JUNIT_XML {
+            @Override
+            void begin(Writer writer, String rule, String expectation, int violations) throws IOException {
+                writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+                writer.write("<testsuite name=\"" + xml(rule) + "\" tests=\"" + violations
+                             + "\" failures=\"" + violations + "\" errors=\"0\" skipped=\"0\">\n");
+            }
+
+            @Override
+            void result(Writer writer, int index, String name, String violation, String expectation)
+                    throws IOException {
+                writer.write("  <testcase classname=\"" + xml(name) + "\" name=\"" + xml(expectation) + "\">");
+                writer.write("<failure message=\"" + xml(violation) + "\"/></testcase>\n");
+            }
+
+            @Override
+            void end(Writer writer) throws IOException {
+                writer.write("</testsuite>\n");
+            }
+        };
+
+        abstract void begin(Writer writer, String rule, String expectation, int violations) throws IOException;
+
+        abstract void result(Writer writer, int index, String name, String violation, String expectation)
+                throws IOException;
+
+        abstract void end(Writer writer) throws IOException;
+
+        private static String json(String value) {
+            var escaped = new StringBuilder(value.length() + 2).append('"');
+            for (var i = 0; i < value.length(); i++) {
+                var c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    escaped.append('\\').append(c);
+                } else if (c < 0x20) {
+                    escaped.append(String.format("\\u%04x", (int) c));
+                } else {
+                    escaped.append(c);
+                }
+            }
+            return escaped.append('"').toString();
+        }
+
+        private static String xml(String value) {
+            var escaped = new StringBuilder(value.length());
+            for (var i = 0; i < value.length(); i++) {
+                var c = value.charAt(i);
+                if (c == '&') {
+                    escaped.append("&amp;");
+                } else if (c == '<') {
+                    escaped.append("&lt;");
+                } else if (c == '>') {
+                    escaped.append("&gt;");
+                } else if (c == '"') {
+                    escaped.append("&quot;");
+                } else if (c == '\t' || c == '\n' || c == '\r') {
+                    escaped.append("&#").append((int) c).append(';');
+                } else if (c < 0x20 || c == 0xFFFE || c == 0xFFFF) {
+                    // Not allowed in XML 1.0, even as a character reference
+                    escaped.append('\uFFFD');
+                } else {
+                    escaped.append(c);
+                }
+            }
+            return escaped.toString();
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.AttributedAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.ConstantAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithConstantAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithCustomAttributes;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDefaultAttributes;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class AnnotationAssertTest {
+
+    @Test
+    void hasAttributeShouldNotThrowWhenAttributeHasValue() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatNoException()
+                .isThrownBy(() -> annotationAssert
+                        .hasAttribute("name", "attributed custom name")
+                        .hasAttribute("values", new int[] {3})
+                        .hasAttribute("types", new Class<?>[] {String.class})
+                        .hasAttribute("required", false));
+    }
+
+    @Test
+    void hasAttributeShouldThrowWhenAttributeHasDifferentValue() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert.hasAttribute("values", new int[] {4}))
+                .withMessage(
+                        "Expecting annotation of type AttributedAnnotation to have attributes but:" +
+                        System.lineSeparator() + "  values: expected [4] but was [3]");
+    }
+
+    @Test
+    void hasAttributeShouldThrowWhenAttributeDoesNotExist() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert.hasAttribute("unknown", 1))
+                .withMessage(
+                        "Expecting annotation of type AttributedAnnotation to have attributes but:" +
+                        System.lineSeparator() + "  unknown: no such attribute");
+    }
+
+    @Test
+    void hasAttributeShouldThrowWhenExpectedValueIsNull() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert.hasAttribute("name", null))
+                .withMessage(
+                        "Expecting annotation of type AttributedAnnotation to have attributes but:" +
+                        System.lineSeparator() + "  name: expected null but attributes are never null");
+    }
+
+    @Test
+    void hasAttributeShouldConvertNumberToAttributeType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(TypeWithConstantAnnotation.class, ConstantAnnotation.class)
+                        .hasAttribute("timeout", 30)
+                        .hasAttribute("name", "constant default name")
+                        .hasDefaultAttributes());
+    }
+
+    @Test
+    void hasAttributeShouldReportTypesWhenNumberCannotBeConverted() {
+        var annotationAssert = assertHasAnnotation(TypeWithConstantAnnotation.class, ConstantAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert.hasAttribute("timeout", 30.5))
+                .withMessage(
+                        "Expecting annotation of type ConstantAnnotation to have attributes but:" +
+                        System.lineSeparator() + "  timeout: expected 30.5 but was 30L (expected Double but was Long)");
+    }
+
+    @Test
+    void hasAttributesShouldReportEveryMismatch() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert.hasAttributes(Map.of("name", "wrong name", "required", true)))
+                .withMessageContaining("  name: expected \"wrong name\" but was \"attributed custom name\"")
+                .withMessageContaining("  required: expected true but was false");
+    }
+
+    @Test
+    void hasDefaultAttributesShouldNotThrowWhenAttributesAreDefault() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(TypeWithDefaultAttributes.class, AttributedAnnotation.class)
+                        .hasDefaultAttributes());
+    }
+
+    @Test
+    void hasDefaultAttributesShouldThrowListingNonDefaultAttributes() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(annotationAssert::hasDefaultAttributes)
+                .withMessage(
+                        "Expecting annotation of type AttributedAnnotation to have default attributes but:" +
+                        System.lineSeparator() +
+                        "  name: expected \"attributed default name\" but was \"attributed custom name\"" +
+                        System.lineSeparator() + "  types: expected [] but was [java.lang.String]" +
+                        System.lineSeparator() + "  values: expected [1, 2] but was [3]");
+    }
+
+    @Test
+    void hasAttributeShouldHonourOverridingErrorMessage() {
+        var annotationAssert = assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> annotationAssert
+                        .withFailMessage("custom message")
+                        .hasAttribute("required", true))
+                .withMessage("custom message");
+    }
+
+}
@@ -32,14 +32,37 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
 
 import static io.blt.test.AssertUtils.assertValidUtilityClass;
 import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasNoAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasRepeatedAnnotations;
 import static io.blt.test.assertj.testable.AnnotatedElements.ClassWithTypeUseAnnotatedField;
 import static io.blt.test.assertj.testable.AnnotatedElements.TargetTypeUseAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TargetFieldAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TargetMethodAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.DifferentFieldAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.DifferentMethodAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithMultipleAnnotations;
+import static io.blt.test.assertj.testable.AnnotatedElements.MetaTargetAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDirectAndMetaAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithMetaAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithNearerMetaAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.fieldWithMetaAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.GenericHandlerImplementation;
+import static io.blt.test.assertj.testable.AnnotatedElements.HierarchySubclass;
+import static io.blt.test.assertj.testable.AnnotatedElements.InheritedInterfaceImplementation;
+import static io.blt.test.assertj.testable.AnnotatedElements.InterfaceImplementation;
+import static io.blt.test.assertj.testable.AnnotatedElements.RepeatedAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithRepeatedAnnotations;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithSingleRepeatableAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.fieldWithRepeatedAnnotations;
+import static io.blt.test.assertj.testable.AnnotatedElements.methodWithRepeatedAnnotations;
+import static io.blt.test.assertj.testable.AnnotatedElements.methodWithMetaAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDefaultTargetAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDifferentAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithNoAnnotation;
@@ -52,6 +75,7 @@ import static io.blt.test.assertj.testable.AnnotatedElements.methodWithDefaultTa
 import static io.blt.test.assertj.testable.AnnotatedElements.methodWithDifferentAnnotation;
 import static io.blt.test.assertj.testable.AnnotatedElements.methodWithNoAnnotations;
 import static io.blt.test.assertj.testable.AnnotatedElements.methodWithValueTargetAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
@@ -196,4 +220,297 @@ class AnnotationAssertionsTest {
                 .isThrownBy(() -> assertHasAnnotation(field, TargetTypeUseAnnotation.class));
     }
 
+    @Test
+    void assertHasAnnotationsShouldReturnAssertForEachFoundAnnotationOfType() {
+        var annotationsAssert = assertHasAnnotations(
+                TypeWithMultipleAnnotations.class, TargetTypeAnnotation.class, DifferentTypeAnnotation.class);
+
+        assertThatNoException()
+                .isThrownBy(() -> annotationsAssert
+                        .annotation(TargetTypeAnnotation.class)
+                        .extracting(TargetTypeAnnotation::name)
+                        .isEqualTo("type annotation default name"));
+        assertThatNoException()
+                .isThrownBy(() -> annotationsAssert
+                        .annotation(DifferentTypeAnnotation.class)
+                        .isNotNull());
+    }
+
+    @Test
+    void assertHasAnnotationsShouldThrowWithEveryMissingAnnotationOfType() {
+        assertThatExceptionOfType(MultipleFailuresError.class)
+                .isThrownBy(() -> assertHasAnnotations(
+                        TypeWithNoAnnotation.class, TargetTypeAnnotation.class, DifferentTypeAnnotation.class))
+                .satisfies(e -> assertThat(e.getFailures())
+                        .extracting(Throwable::getMessage)
+                        .containsExactly(
+                                "Cannot find annotation of type TargetTypeAnnotation",
+                                "Cannot find annotation of type DifferentTypeAnnotation"));
+    }
+
+    @Test
+    void assertHasAnnotationsShouldThrowOnlyForMissingAnnotationOfType() {
+        assertThatExceptionOfType(MultipleFailuresError.class)
+                .isThrownBy(() -> assertHasAnnotations(
+                        TypeWithDefaultTargetAnnotation.class,
+                        TargetTypeAnnotation.class,
+                        DifferentTypeAnnotation.class))
+                .satisfies(e -> assertThat(e.getFailures())
+                        .extracting(Throwable::getMessage)
+                        .containsExactly("Cannot find annotation of type DifferentTypeAnnotation"));
+    }
+
+    @Test
+    void assertHasAnnotationsAnnotationShouldThrowWhenAnnotationWasNotAsserted() {
+        var annotationsAssert = assertHasAnnotations(TypeWithMultipleAnnotations.class, TargetTypeAnnotation.class);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> annotationsAssert.annotation(DifferentTypeAnnotation.class))
+                .withMessage("Annotation of type DifferentTypeAnnotation was not asserted");
+    }
+
+    @Test
+    void assertHasAnnotationsShouldThrowWithEveryMissingAnnotationOfMethod() {
+        assertThatExceptionOfType(MultipleFailuresError.class)
+                .isThrownBy(() -> assertHasAnnotations(
+                        methodWithNoAnnotations, TargetMethodAnnotation.class, DifferentMethodAnnotation.class))
+                .satisfies(e -> assertThat(e.getFailures()).hasSize(2));
+    }
+
+    @Test
+    void assertHasAnnotationsShouldReturnAssertForFoundAnnotationOfField() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotations(fieldWithValueTargetAnnotation, TargetFieldAnnotation.class)
+                        .annotation(TargetFieldAnnotation.class)
+                        .extracting(TargetFieldAnnotation::name)
+                        .isEqualTo("field annotation value name"));
+    }
+
+    @Test
+    void assertHasNoAnnotationsShouldThrowWithEveryPresentAnnotationOfType() {
+        assertThatExceptionOfType(MultipleFailuresError.class)
+                .isThrownBy(() -> assertHasNoAnnotations(
+                        TypeWithMultipleAnnotations.class, TargetTypeAnnotation.class, DifferentTypeAnnotation.class))
+                .satisfies(e -> assertThat(e.getFailures())
+                        .extracting(Throwable::getMessage)
+                        .containsExactly(
+                                "Unexpected annotation of type TargetTypeAnnotation",
+                                "Unexpected annotation of type DifferentTypeAnnotation"));
+    }
+
+    @Test
+    void assertHasNoAnnotationsShouldNotThrowWhenNoAnnotationIsPresent() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasNoAnnotations(
+                        TypeWithNoAnnotation.class, TargetTypeAnnotation.class, DifferentTypeAnnotation.class));
+        assertThatNoException()
+                .isThrownBy(() -> assertHasNoAnnotations(methodWithNoAnnotations, TargetMethodAnnotation.class));
+        assertThatNoException()
+                .isThrownBy(() -> assertHasNoAnnotations(fieldWithNoAnnotations, DifferentFieldAnnotation.class));
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldFindTransitiveMetaAnnotationOfType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        TypeWithMetaAnnotation.class, MetaTargetAnnotation.class, SearchOption.META_ANNOTATIONS)
+                        .extracting(MetaTargetAnnotation::name)
+                        .isEqualTo("meta annotation composed name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldPreferDirectAnnotationOfType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        TypeWithDirectAndMetaAnnotation.class,
+                        MetaTargetAnnotation.class,
+                        SearchOption.META_ANNOTATIONS)
+                        .extracting(MetaTargetAnnotation::name)
+                        .isEqualTo("meta annotation direct name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldFindNearestMetaAnnotationAcrossAllAnnotations() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        TypeWithNearerMetaAnnotation.class,
+                        MetaTargetAnnotation.class,
+                        SearchOption.META_ANNOTATIONS)
+                        .extracting(MetaTargetAnnotation::name)
+                        .isEqualTo("meta annotation nearer name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithoutMetaAnnotationsShouldThrowForMetaAnnotationOfType() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(TypeWithMetaAnnotation.class, MetaTargetAnnotation.class))
+                .withMessage("Cannot find annotation of type MetaTargetAnnotation");
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldThrowWhenAnnotationIsNotFoundThroughCycle() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(
+                        TypeWithMetaAnnotation.class, TargetTypeAnnotation.class, SearchOption.META_ANNOTATIONS))
+                .withMessage("Cannot find annotation of type TargetTypeAnnotation");
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldFindMetaAnnotationOfMethod() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        methodWithMetaAnnotation, MetaTargetAnnotation.class, SearchOption.META_ANNOTATIONS)
+                        .extracting(MetaTargetAnnotation::name)
+                        .isEqualTo("meta annotation composed name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldFindMetaAnnotationOfField() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        fieldWithMetaAnnotation, MetaTargetAnnotation.class, SearchOption.META_ANNOTATIONS)
+                        .extracting(MetaTargetAnnotation::name)
+                        .isEqualTo("meta annotation composed name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithNoOptionsShouldOnlyFindDirectAnnotationOfMethod() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(methodWithMetaAnnotation, MetaTargetAnnotation.class,
+                                                      new SearchOption[0]))
+                .withMessage("Cannot find annotation of type MetaTargetAnnotation");
+    }
+
+    static Stream<Arguments> assertHasAnnotationWithHierarchyShouldFindNearestAnnotationOfType() {
+        return Stream.of(
+                Arguments.arguments(HierarchySubclass.class, "type annotation superclass name"),
+                Arguments.arguments(InterfaceImplementation.class, "type annotation interface name"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void assertHasAnnotationWithHierarchyShouldFindNearestAnnotationOfType(Class<?> type, String expected) {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(type, TargetTypeAnnotation.class, SearchOption.HIERARCHY)
+                        .extracting(TargetTypeAnnotation::name)
+                        .isEqualTo(expected));
+    }
+
+    @Test
+    void assertHasAnnotationWithoutHierarchyShouldThrowForInterfaceAnnotationOfType() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(InterfaceImplementation.class, TargetTypeAnnotation.class))
+                .withMessage("Cannot find annotation of type TargetTypeAnnotation");
+    }
+
+    static Stream<Arguments> assertHasAnnotationWithHierarchyShouldFindAnnotationOfOverriddenMethod() {
+        return Stream.of(
+                Arguments.arguments("interfaceMethod", "method annotation interface name"),
+                Arguments.arguments("superclassMethod", "method annotation superclass name"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void assertHasAnnotationWithHierarchyShouldFindAnnotationOfOverriddenMethod(String name, String expected)
+            throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getMethod(name);
+
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(method, TargetMethodAnnotation.class, SearchOption.HIERARCHY)
+                        .extracting(TargetMethodAnnotation::name)
+                        .isEqualTo(expected));
+    }
+
+    @Test
+    void assertHasAnnotationWithoutHierarchyShouldThrowForAnnotationOfOverriddenMethod() throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getMethod("interfaceMethod");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(method, TargetMethodAnnotation.class))
+                .withMessage("Cannot find annotation of type TargetMethodAnnotation");
+    }
+
+    @Test
+    void assertHasAnnotationWithHierarchyShouldFindAnnotationOfGenericInterfaceMethod() throws NoSuchMethodException {
+        var method = GenericHandlerImplementation.class.getMethod("handle", String.class);
+
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(method, TargetMethodAnnotation.class, SearchOption.HIERARCHY)
+                        .extracting(TargetMethodAnnotation::name)
+                        .isEqualTo("method annotation generic interface name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithTargetClassShouldFindAnnotationOfInterfaceImplementedByInheritedMethod()
+            throws NoSuchMethodException {
+        var method = InheritedInterfaceImplementation.class.getMethod("interfaceMethod");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(method, TargetMethodAnnotation.class, SearchOption.HIERARCHY));
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(
+                        method,
+                        InheritedInterfaceImplementation.class,
+                        TargetMethodAnnotation.class,
+                        SearchOption.HIERARCHY)
+                        .extracting(TargetMethodAnnotation::name)
+                        .isEqualTo("method annotation interface name"));
+    }
+
+    @Test
+    void assertHasAnnotationWithHierarchyShouldNotTreatPrivateMethodAsOverridden() throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getDeclaredMethod("privateMethod");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(method, TargetMethodAnnotation.class, SearchOption.HIERARCHY))
+                .withMessage("Cannot find annotation of type TargetMethodAnnotation");
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldUnwrapContainerOfType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasRepeatedAnnotations(
+                        TypeWithRepeatedAnnotations.class, RepeatedAnnotation.class)
+                        .extracting(RepeatedAnnotation::name)
+                        .containsExactly("first repeated name", "second repeated name"));
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldFindSingleAnnotationOfType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasRepeatedAnnotations(
+                        TypeWithSingleRepeatableAnnotation.class, RepeatedAnnotation.class)
+                        .extracting(RepeatedAnnotation::name)
+                        .containsExactly("single repeated name"));
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldFindNonRepeatableAnnotationOfType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasRepeatedAnnotations(
+                        TypeWithDefaultTargetAnnotation.class, TargetTypeAnnotation.class)
+                        .hasSize(1));
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldThrowWhenTypeDoesntHaveAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasRepeatedAnnotations(TypeWithNoAnnotation.class, RepeatedAnnotation.class))
+                .withMessage("Cannot find annotation of type RepeatedAnnotation");
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldUnwrapContainerOfMethod() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasRepeatedAnnotations(methodWithRepeatedAnnotations, RepeatedAnnotation.class)
+                        .hasSize(2));
+    }
+
+    @Test
+    void assertHasRepeatedAnnotationsShouldUnwrapContainerOfField() {
+        assertThatNoException()
+                .isThrownBy(() -> assertHasRepeatedAnnotations(fieldWithRepeatedAnnotations, RepeatedAnnotation.class)
+                        .hasSize(2));
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.testable.AnnotatedElements.AttributedAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.ConstantAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithCustomAttributes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationAttributesTest {
+
+    @Test
+    void ofShouldReturnSameTableForSameType() {
+        assertThat(AnnotationAttributes.of(AttributedAnnotation.class))
+                .isSameAs(AnnotationAttributes.of(AttributedAnnotation.class));
+    }
+
+    @Test
+    void ofShouldOrderAttributesByName() {
+        var attributes = AnnotationAttributes.of(AttributedAnnotation.class);
+
+        assertThat(attributes.size()).isEqualTo(4);
+        assertThat(new String[] {attributes.name(0), attributes.name(1), attributes.name(2), attributes.name(3)})
+                .containsExactly("name", "required", "types", "values");
+    }
+
+    @Test
+    void ofShouldExcludeStaticAndSyntheticMembersOfAnnotationType() {
+        var attributes = AnnotationAttributes.of(ConstantAnnotation.class);
+
+        assertThat(ConstantAnnotation.class.getDeclaredMethods()).hasSizeGreaterThan(2);
+        assertThat(attributes.size()).isEqualTo(2);
+        assertThat(new String[] {attributes.name(0), attributes.name(1)}).containsExactly("name", "timeout");
+    }
+
+    @Test
+    void coerceShouldConvertNumbersExactlyToAttributeType() {
+        var attributes = AnnotationAttributes.of(ConstantAnnotation.class);
+        var timeout = attributes.indexOf("timeout");
+
+        assertThat(attributes.coerce(timeout, 30)).isEqualTo(30L);
+        assertThat(attributes.coerce(timeout, 30.0)).isEqualTo(30L);
+        assertThat(attributes.coerce(timeout, 30.5)).isEqualTo(30.5);
+        assertThat(attributes.coerce(attributes.indexOf("name"), 30)).isEqualTo(30);
+    }
+
+    @Test
+    void indexOfShouldReturnMinusOneForUnknownAttribute() {
+        assertThat(AnnotationAttributes.of(AttributedAnnotation.class).indexOf("unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    void defaultValueShouldReturnNullWhenAttributeHasNoDefault() {
+        var attributes = AnnotationAttributes.of(AttributedAnnotation.class);
+
+        assertThat(attributes.defaultValue(attributes.indexOf("required"))).isNull();
+        assertThat(attributes.defaultValue(attributes.indexOf("values"))).isEqualTo(new int[] {1, 2});
+    }
+
+    @Test
+    void valueShouldReturnAttributeValueOfInstance() {
+        var attributes = AnnotationAttributes.of(AttributedAnnotation.class);
+        var annotation = TypeWithCustomAttributes.class.getAnnotation(AttributedAnnotation.class);
+
+        assertThat(attributes.value(annotation, attributes.indexOf("name"))).isEqualTo("attributed custom name");
+    }
+
+}
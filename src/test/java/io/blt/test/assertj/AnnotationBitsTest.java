@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationBitsTest {
+
+    @Test
+    void idShouldBeStablePerType() {
+        assertThat(AnnotationBits.id(TargetTypeAnnotation.class))
+                .isEqualTo(AnnotationBits.id(TargetTypeAnnotation.class))
+                .isNotEqualTo(AnnotationBits.id(DifferentTypeAnnotation.class));
+    }
+
+    @Test
+    void idShouldBeReusedOnceTypeIsUnloaded() throws Exception {
+        var ids = new HashSet<Integer>();
+        for (var i = 0; i < 20; i++) {
+            ids.add(idOfTypeInDiscardedLoader());
+            System.gc();
+        }
+
+        assertThat(ids).hasSizeLessThan(20);
+    }
+
+    @Test
+    void containsShouldReturnTrueOnlyForMembers() {
+        var bits = AnnotationBits.of(List.of(TargetTypeAnnotation.class));
+
+        assertThat(bits.contains(TargetTypeAnnotation.class)).isTrue();
+        assertThat(bits.contains(DifferentTypeAnnotation.class)).isFalse();
+        assertThat(AnnotationBits.EMPTY.contains(TargetTypeAnnotation.class)).isFalse();
+    }
+
+    @Test
+    void intersectsShouldReturnTrueIfAnyTypeIsShared() {
+        var target = AnnotationBits.of(List.of(TargetTypeAnnotation.class));
+        var both = AnnotationBits.of(List.of(TargetTypeAnnotation.class, DifferentTypeAnnotation.class));
+        var different = AnnotationBits.of(List.of(DifferentTypeAnnotation.class));
+
+        assertThat(both.intersects(target)).isTrue();
+        assertThat(target.intersects(different)).isFalse();
+        assertThat(target.intersects(AnnotationBits.EMPTY)).isFalse();
+    }
+
+    @Test
+    void sameAsShouldIgnoreOrderDuplicatesAndTrailingEmptyWords() {
+        List<Class<? extends Annotation>> types = List.of(TargetTypeAnnotation.class, DifferentTypeAnnotation.class);
+        List<Class<? extends Annotation>> reversed = List.of(
+                DifferentTypeAnnotation.class, TargetTypeAnnotation.class, DifferentTypeAnnotation.class);
+
+        assertThat(AnnotationBits.of(types).sameAs(AnnotationBits.of(reversed))).isTrue();
+        assertThat(AnnotationBits.of(types).sameAs(AnnotationBits.of(List.of(TargetTypeAnnotation.class)))).isFalse();
+        assertThat(AnnotationBits.of(List.of()).sameAs(AnnotationBits.EMPTY)).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int idOfTypeInDiscardedLoader() throws Exception {
+        var classes = DifferentTypeAnnotation.class.getProtectionDomain().getCodeSource().getLocation();
+        try (var loader = new URLClassLoader(new URL[] {classes}, null)) {
+            var type = Class.forName(DifferentTypeAnnotation.class.getName(), false, loader);
+            return AnnotationBits.id((Class<? extends Annotation>) type);
+        }
+    }
+
+}
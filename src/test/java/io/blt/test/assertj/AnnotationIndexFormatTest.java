@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedAnnotation;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedClass;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedMember;
+import static io.blt.test.assertj.AnnotationIndexFormat.IndexedValue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class AnnotationIndexFormatTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readShouldReturnEveryClassAsWritten() throws IOException {
+        var classes = List.of(annotated(), new IndexedClass("com.acme.Unannotated", List.of(), List.of(), List.of()));
+
+        var read = AnnotationIndexFormat.read(new ByteArrayInputStream(write(classes)));
+
+        assertThat(read).extracting(IndexedClass::name).containsExactly("com.acme.Annotated", "com.acme.Unannotated");
+        assertThat(read.get(0).annotations).isEqualTo(annotated().annotations);
+        assertThat(read.get(0).methods).singleElement()
+                .returns("method", m -> m.name)
+                .returns("()V", m -> m.descriptor)
+                .returns(annotated().methods.get(0).annotations, m -> m.annotations);
+    }
+
+    @Test
+    void writeShouldBeReadableByIndexedAnnotations() throws IOException {
+        var path = Files.write(dir.resolve("annotations.idx"), write(List.of(annotated())));
+
+        var classFile = IndexedAnnotations.read(path).find("com.acme.Annotated").orElseThrow();
+
+        assertThat(classFile.findAnnotation("com.acme.Transactional").orElseThrow().attributes()).containsExactly(
+                entry("timeout", 30L),
+                entry("propagation", "REQUIRES_NEW"),
+                entry("rollbackFor", List.of("java.lang.Exception")),
+                entry("label", new ClassFileAnnotation("com.acme.Label", Map.of("value", "label"))));
+        assertThat(classFile.method("method").orElseThrow().annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly("java.lang.Deprecated");
+    }
+
+    private static IndexedClass annotated() {
+        var attributes = new LinkedHashMap<String, IndexedValue>();
+        attributes.put("timeout", new IndexedValue('J', 30L));
+        attributes.put("propagation", new IndexedValue('e', "REQUIRES_NEW"));
+        attributes.put("rollbackFor", new IndexedValue('[', List.of(new IndexedValue('c', "java.lang.Exception"))));
+        attributes.put("label", new IndexedValue('@', new IndexedAnnotation(
+                "com.acme.Label", Map.of("value", new IndexedValue('s', "label")))));
+
+        return new IndexedClass(
+                "com.acme.Annotated",
+                List.of(new IndexedAnnotation("com.acme.Transactional", attributes)),
+                List.of(),
+                List.of(new IndexedMember(
+                        "method", "()V", List.of(new IndexedAnnotation("java.lang.Deprecated", Map.of())))));
+    }
+
+    private static byte[] write(List<IndexedClass> classes) throws IOException {
+        var out = new ByteArrayOutputStream();
+        AnnotationIndexFormat.write(classes, out);
+        return out.toByteArray();
+    }
+
+}
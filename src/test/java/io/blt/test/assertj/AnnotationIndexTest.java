@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.lang.annotation.Annotation;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.testable.AnnotatedElements.ClassWithTypeUseAnnotatedField;
+import static io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TargetFieldAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TargetMethodAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TargetTypeUseAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDefaultTargetAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.fieldWithDefaultTargetAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.methodWithDefaultTargetAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationIndexTest {
+
+    @Test
+    void ofShouldReturnSameIndexForSameClass() {
+        assertThat(AnnotationIndex.of(TypeWithDefaultTargetAnnotation.class))
+                .isSameAs(AnnotationIndex.of(TypeWithDefaultTargetAnnotation.class));
+    }
+
+    @Test
+    void ofShouldReturnSameIndexForEqualMethods() throws NoSuchMethodException {
+        var copy = methodWithDefaultTargetAnnotation.getDeclaringClass()
+                                                    .getMethod(methodWithDefaultTargetAnnotation.getName());
+
+        assertThat(AnnotationIndex.of(copy))
+                .isSameAs(AnnotationIndex.of(methodWithDefaultTargetAnnotation));
+    }
+
+    @Test
+    void positionOfShouldReturnPositionOfEqualParameters() throws NoSuchMethodException {
+        var method = String.class.getMethod("regionMatches", int.class, String.class, int.class, int.class);
+
+        assertThat(method.getParameters())
+                .extracting(AnnotationIndex::positionOf)
+                .containsExactly(0, 1, 2, 3);
+        assertThat(AnnotationIndex.positionOf(method.getParameters()[2])).isEqualTo(2);
+    }
+
+    @Test
+    void getShouldReturnAnnotationOfType() {
+        var index = AnnotationIndex.of(TypeWithDefaultTargetAnnotation.class);
+
+        assertThat(index.get(TargetTypeAnnotation.class))
+                .isEqualTo(TypeWithDefaultTargetAnnotation.class.getAnnotation(TargetTypeAnnotation.class));
+    }
+
+    @Test
+    void getShouldReturnNullWhenAnnotationIsMissing() {
+        var index = AnnotationIndex.of(TypeWithDefaultTargetAnnotation.class);
+
+        assertThat(index.get(DifferentTypeAnnotation.class)).isNull();
+    }
+
+    @Test
+    void ofShouldIndexMethodAnnotations() {
+        assertThat(AnnotationIndex.of(methodWithDefaultTargetAnnotation).annotations())
+                .<Class<?>>extracting(Annotation::annotationType)
+                .containsExactly(TargetMethodAnnotation.class);
+    }
+
+    @Test
+    void ofShouldIndexFieldAnnotations() {
+        assertThat(AnnotationIndex.of(fieldWithDefaultTargetAnnotation).annotations())
+                .<Class<?>>extracting(Annotation::annotationType)
+                .containsExactly(TargetFieldAnnotation.class);
+    }
+
+    @Test
+    void ofShouldIndexTypeUseAnnotationsOfField() throws NoSuchFieldException {
+        var field = ClassWithTypeUseAnnotatedField.class.getField("typeUseAnnotatedField");
+
+        assertThat(AnnotationIndex.of(field).annotations())
+                .<Class<?>>extracting(Annotation::annotationType)
+                .containsExactly(TargetTypeUseAnnotation.class);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithDifferentAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithNoAnnotation;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AnnotationLookupEventTest {
+
+    private static final String EVENT = "io.blt.test.assertj.AnnotationLookup";
+    private static final String ANNOTATION_TYPE = DifferentTypeAnnotation.class.getName();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void lookupsShouldBeRecordedAsEvents() throws IOException {
+        var events = record(() -> {
+            assertHasAnnotation(TypeWithDifferentAnnotation.class, DifferentTypeAnnotation.class);
+            assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertHasAnnotation(TypeWithNoAnnotation.class, DifferentTypeAnnotation.class));
+        });
+
+        assertThat(events)
+                .extracting(
+                        e -> e.getString("element"),
+                        e -> e.<RecordedClass>getValue("annotationType").getName(),
+                        e -> e.getBoolean("found"))
+                .containsExactly(
+                        tuple(TypeWithDifferentAnnotation.class.toString(), ANNOTATION_TYPE, true),
+                        tuple(TypeWithNoAnnotation.class.toString(), ANNOTATION_TYPE, false));
+        assertThat(events)
+                .allMatch(e -> !e.getDuration().isNegative());
+    }
+
+    @Test
+    void lookupsShouldNotBeRecordedWhenEventIsDisabled() throws IOException {
+        try (var recording = new Recording()) {
+            recording.disable(EVENT);
+            recording.start();
+            assertHasAnnotation(TypeWithDifferentAnnotation.class, DifferentTypeAnnotation.class);
+            recording.stop();
+
+            var file = dir.resolve("disabled.jfr");
+            recording.dump(file);
+
+            assertThat(RecordingFile.readAllEvents(file))
+                    .noneMatch(e -> e.getEventType().getName().equals(EVENT));
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable lookups) throws IOException {
+        try (var recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            lookups.run();
+            recording.stop();
+
+            var file = dir.resolve("enabled.jfr");
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(EVENT))
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.ClassWithTypeUseAnnotatedField;
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentFieldAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentMethodAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetMethodAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetTypeUseAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithMultipleAnnotations;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithNoAnnotation;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertAnnotationsOf;
+import static io.blt.test.assertj.testable.AnnotatedElements.fieldWithDifferentAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.methodWithDefaultTargetAnnotation;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class AnnotationSetAssertTest {
+
+    @Test
+    void hasOnlyAnnotationsShouldNotThrowWhenAnnotationsMatchInAnyOrder() {
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithMultipleAnnotations.class)
+                        .hasOnlyAnnotations(DifferentTypeAnnotation.class, TargetTypeAnnotation.class));
+    }
+
+    @Test
+    void hasOnlyAnnotationsShouldNotThrowWhenNoAnnotationsAreExpectedOrPresent() {
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithNoAnnotation.class).hasOnlyAnnotations());
+    }
+
+    @Test
+    void hasOnlyAnnotationsShouldThrowWhenAnnotationIsMissing() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationsOf(methodWithDefaultTargetAnnotation)
+                        .hasOnlyAnnotations(TargetMethodAnnotation.class, DifferentMethodAnnotation.class))
+                .withMessage("Expecting only annotations of types " +
+                             "[TargetMethodAnnotation, DifferentMethodAnnotation] " +
+                             "but could not find [DifferentMethodAnnotation]");
+    }
+
+    @Test
+    void hasOnlyAnnotationsShouldThrowWhenUnexpectedAnnotationIsPresent() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithMultipleAnnotations.class)
+                        .hasOnlyAnnotations(TargetTypeAnnotation.class))
+                .withMessage("Expecting only annotations of types [TargetTypeAnnotation] " +
+                             "but found [DifferentTypeAnnotation]");
+    }
+
+    @Test
+    void hasOnlyAnnotationsShouldThrowWhenAnnotationsDiffer() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationsOf(fieldWithDifferentAnnotation)
+                        .hasOnlyAnnotations(TargetTypeUseAnnotation.class))
+                .withMessage("Expecting only annotations of types [TargetTypeUseAnnotation] " +
+                             "but could not find [TargetTypeUseAnnotation] and found [DifferentFieldAnnotation]");
+    }
+
+    @Test
+    void hasOnlyAnnotationsShouldIncludeTypeUseAnnotationsOfFields() throws NoSuchFieldException {
+        var field = ClassWithTypeUseAnnotatedField.class.getField("typeUseAnnotatedField");
+
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(field).hasOnlyAnnotations(TargetTypeUseAnnotation.class));
+    }
+
+    @Test
+    void hasNoneOfShouldNotThrowWhenNoAnnotationIsPresent() {
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(fieldWithDifferentAnnotation)
+                        .hasNoneOf(TargetTypeAnnotation.class, TargetTypeUseAnnotation.class));
+    }
+
+    @Test
+    void hasNoneOfShouldThrowListingPresentAnnotations() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithMultipleAnnotations.class)
+                        .hasNoneOf(DifferentTypeAnnotation.class, DifferentFieldAnnotation.class))
+                .withMessage("Expecting none of annotations of types " +
+                             "[DifferentTypeAnnotation, DifferentFieldAnnotation] " +
+                             "but found [DifferentTypeAnnotation]");
+    }
+
+    @Test
+    void hasAnyOfShouldNotThrowWhenOneAnnotationIsPresent() {
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithMultipleAnnotations.class)
+                        .hasAnyOf(DifferentFieldAnnotation.class, TargetTypeAnnotation.class)
+                        .hasNoneOf(DifferentFieldAnnotation.class));
+    }
+
+    @Test
+    void hasAnyOfShouldThrowWhenNoAnnotationIsPresent() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationsOf(TypeWithNoAnnotation.class)
+                        .hasAnyOf(TargetTypeAnnotation.class, DifferentTypeAnnotation.class))
+                .withMessage("Expecting any of annotations of types [TargetTypeAnnotation, DifferentTypeAnnotation] " +
+                             "but found none");
+    }
+
+}
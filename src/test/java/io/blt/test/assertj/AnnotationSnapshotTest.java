@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.snapshot.SnapshotElements;
+import io.blt.test.assertj.testable.snapshot.SnapshotElements.Annotated;
+import io.blt.test.assertj.testable.snapshot.SnapshotElements.Snapshotted;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static io.blt.test.assertj.AnnotationAssertions.assertAnnotationSnapshot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class AnnotationSnapshotTest {
+
+    private static final String SNAPSHOT_PACKAGE = SnapshotElements.class.getPackageName();
+
+    private static final String ANNOTATED = Annotated.class.getName();
+    private static final String SNAPSHOTTED = "@" + Snapshotted.class.getName();
+
+    private static final List<String> EXPECTED = List.of(
+            ANNOTATED + " class " + SNAPSHOTTED +
+            "(count=3L, letter='\\'', ratio=1.5f, text=\"quoted \\\"text\\\"\\u000a\", values={1, 2})",
+            ANNOTATED + " field field:Ljava/lang/String; " + SNAPSHOTTED,
+            ANNOTATED + " method method(I)V " + SNAPSHOTTED + "(text=\"method\")",
+            ANNOTATED + " method method(I)V @java.lang.Deprecated",
+            Snapshotted.class.getName() + " class @java.lang.annotation.Retention(value=\"RUNTIME\")");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(AnnotationSnapshot.class);
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldWriteSortedSnapshotIfAbsentWhenUpdating() throws IOException {
+        var snapshot = dir.resolve("snapshots/api.snapshot");
+
+        withProperty(AnnotationSnapshot.UPDATE_PROPERTY, "true", () ->
+                assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot));
+
+        assertThat(Files.readAllLines(snapshot)).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldThrowIfSnapshotIsAbsent() {
+        var snapshot = dir.resolve("api.snapshot");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot))
+                .withMessage(
+                        "Expecting annotation snapshot " + snapshot + " of classes in " + SNAPSHOT_PACKAGE +
+                        " to exist, run with -Dblt.assertj.updateSnapshots=true to write it");
+        assertThat(snapshot).doesNotExist();
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldReadSnapshotFromDirectoryProperty() throws IOException {
+        Files.write(dir.resolve(SNAPSHOT_PACKAGE + ".snapshot"), EXPECTED);
+
+        withProperty(AnnotationSnapshot.DIRECTORY_PROPERTY, dir.toString(), () ->
+                assertThatNoException().isThrownBy(() -> assertAnnotationSnapshot(SNAPSHOT_PACKAGE)));
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldNotThrowWhenSnapshotMatches() throws IOException {
+        var snapshot = Files.write(dir.resolve("api.snapshot"), EXPECTED);
+
+        assertThatNoException().isThrownBy(() -> assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot));
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldThrowListingEveryDifference() throws IOException {
+        var snapshot = Files.write(dir.resolve("api.snapshot"), List.of(
+                EXPECTED.get(0),
+                ANNOTATED + " field field:Ljava/lang/String; @java.lang.Deprecated",
+                EXPECTED.get(2),
+                EXPECTED.get(3),
+                EXPECTED.get(4)));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot))
+                .withMessage(
+                        "Expecting annotations of classes in " + SNAPSHOT_PACKAGE + " to match snapshot " + snapshot +
+                        " but found differences (- expected, + actual):" + System.lineSeparator() +
+                        "  + " + EXPECTED.get(1) + System.lineSeparator() +
+                        "  - " + ANNOTATED + " field field:Ljava/lang/String; @java.lang.Deprecated");
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldCapReportedDifferences() throws IOException {
+        var snapshot = Files.write(dir.resolve("api.snapshot"), IntStream.range(0, 60)
+                .mapToObj(i -> String.format("zzz.Removed%02d class @zzz.Removed", i))
+                .collect(Collectors.toList()));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot))
+                .withMessageContaining("  + " + EXPECTED.get(4))
+                .withMessageContaining("  - zzz.Removed44 class @zzz.Removed" + System.lineSeparator())
+                .withMessageEndingWith("  ... and 15 more");
+    }
+
+    @Test
+    void assertAnnotationSnapshotShouldRewriteSnapshotWhenUpdating() throws IOException {
+        var snapshot = Files.write(dir.resolve("api.snapshot"), List.of("zzz.Removed class @zzz.Removed"));
+
+        withProperty(AnnotationSnapshot.UPDATE_PROPERTY, "true", () ->
+                assertAnnotationSnapshot(SNAPSHOT_PACKAGE, snapshot));
+
+        assertThat(Files.readAllLines(snapshot)).isEqualTo(EXPECTED);
+    }
+
+    private static void withProperty(String name, String value, Runnable runnable) {
+        System.setProperty(name, value);
+        try {
+            runnable.run();
+        } finally {
+            System.clearProperty(name);
+        }
+    }
+
+}
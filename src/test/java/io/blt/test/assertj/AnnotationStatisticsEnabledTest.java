@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.RepeatedAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithDifferentAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithNoAnnotation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasRepeatedAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertThatClassesIn;
+import static io.blt.test.assertj.AnnotationStatisticsTest.ROW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Run by the {@code statistics-test} execution, with {@value AnnotationStatistics#ENABLED_PROPERTY} set.
+ */
+@EnabledIfSystemProperty(named = AnnotationStatistics.ENABLED_PROPERTY, matches = "true")
+class AnnotationStatisticsEnabledTest {
+
+    @BeforeEach
+    void beforeEach() {
+        AnnotationStatistics.reset();
+    }
+
+    @Test
+    void isEnabledShouldReturnTrue() {
+        assertThat(AnnotationStatistics.isEnabled()).isTrue();
+    }
+
+    @Test
+    void lookupsShouldBeCountedByAnnotationType() {
+        assertHasAnnotation(TypeWithDifferentAnnotation.class, DifferentTypeAnnotation.class);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(TypeWithNoAnnotation.class, DifferentTypeAnnotation.class));
+
+        assertThat(AnnotationStatistics.dump().lines())
+                .anyMatch(l -> l.matches(String.format(ROW, 2, 1)));
+    }
+
+    @Test
+    void classRuleLookupsShouldBeCountedPerClass() {
+        assertThatClassesIn("io.blt.test.assertj.testable.unlinked").noneHaveAnnotation(DifferentTypeAnnotation.class);
+
+        assertThat(AnnotationStatistics.dump().lines())
+                .anyMatch(l -> l.matches("^" + DifferentTypeAnnotation.class.getName().replace("$", "\\$")
+                                         + " +(\\d+) +\\1 +.*"));
+    }
+
+    @Test
+    void repeatedLookupsShouldBeCounted() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasRepeatedAnnotations(TypeWithNoAnnotation.class, RepeatedAnnotation.class));
+
+        assertThat(AnnotationStatistics.dump().lines())
+                .anyMatch(l -> l.startsWith(RepeatedAnnotation.class.getName() + " ") && l.matches(".* +1 +1 +.*"));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.DifferentTypeAnnotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationStatisticsTest {
+
+    static final String ROW =
+            "^" + DifferentTypeAnnotation.class.getName().replace("$", "\\$") + " +%d +%d +\\d+\\.\\d{3}$";
+
+    @BeforeEach
+    void beforeEach() {
+        AnnotationStatistics.reset();
+    }
+
+    @Test
+    void shouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(AnnotationStatistics.class);
+        assertValidUtilityClass(LookupInstrumentation.class);
+    }
+
+    @Test
+    void isEnabledShouldReturnTrueWhenEnabledBySystemProperty() throws Exception {
+        assertThat(isEnabledWithProperty("true")).isTrue();
+    }
+
+    @Test
+    void isEnabledShouldReturnFalseByDefault() throws Exception {
+        assertThat(isEnabledWithProperty(null)).isFalse();
+    }
+
+    @Test
+    void dumpShouldCountLookupsAndMissesByAnnotationType() {
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, true, 1_000_000);
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, false, 2_000_000);
+
+        assertThat(AnnotationStatistics.dump().lines())
+                .first()
+                .asString()
+                .matches("^Annotation +Lookups +Misses +Total ms$");
+        assertThat(AnnotationStatistics.dump().lines())
+                .anyMatch(l -> l.matches(String.format(ROW, 2, 1)) && l.endsWith(" 3.000"));
+    }
+
+    @Test
+    void dumpAndResetShouldResetCounters() {
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, true, 1_000_000);
+
+        assertThat(AnnotationStatistics.dumpAndReset().lines())
+                .anyMatch(l -> l.matches(String.format(ROW, 1, 0)));
+        assertThat(AnnotationStatistics.dump().lines())
+                .hasSize(1);
+    }
+
+    @Test
+    void resetShouldZeroEveryCounter() {
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, true, 1_000_000);
+
+        AnnotationStatistics.reset();
+
+        assertThat(AnnotationStatistics.dump().lines()).hasSize(1);
+    }
+
+    @Test
+    void resetShouldKeepCountingLaterLookups() {
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, true, 1_000_000);
+        AnnotationStatistics.reset();
+
+        AnnotationStatistics.record(DifferentTypeAnnotation.class, false, 1_000_000);
+
+        assertThat(AnnotationStatistics.dump().lines())
+                .anyMatch(l -> l.matches(String.format(ROW, 1, 1)));
+    }
+
+    /**
+     * Initializes a fresh copy of {@code AnnotationStatistics}, as its state is decided once per class loader.
+     */
+    private static boolean isEnabledWithProperty(String value) throws Exception {
+        var previous = System.getProperty(AnnotationStatistics.ENABLED_PROPERTY);
+        var classes = AnnotationStatistics.class.getProtectionDomain().getCodeSource().getLocation();
+
+        try (var loader = new URLClassLoader(new URL[] {classes}, ClassLoader.getPlatformClassLoader())) {
+            setProperty(value);
+            var statistics = Class.forName(AnnotationStatistics.class.getName(), true, loader);
+            return (boolean) statistics.getMethod("isEnabled").invoke(null);
+        } finally {
+            setProperty(previous);
+        }
+    }
+
+    private static void setProperty(String value) {
+        if (value == null) {
+            System.clearProperty(AnnotationStatistics.ENABLED_PROPERTY);
+        } else {
+            System.setProperty(AnnotationStatistics.ENABLED_PROPERTY, value);
+        }
+    }
+
+}
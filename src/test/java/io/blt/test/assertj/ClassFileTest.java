@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.ClassFileElements;
+import io.blt.test.assertj.testable.ClassFileElements.AllValues;
+import io.blt.test.assertj.testable.ClassFileElements.FieldAndTypeUse;
+import io.blt.test.assertj.testable.ClassFileElements.Nested;
+import io.blt.test.assertj.testable.ClassFileElements.TypeUse;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class ClassFileTest {
+
+    private static final String ANNOTATED = ClassFileElements.class.getName() + "$Annotated";
+
+    private static Path classFilePath(String className) throws URISyntaxException {
+        return Path.of(ClassFileTest.class.getResource("/" + className.replace('.', '/') + ".class").toURI());
+    }
+
+    @Test
+    void readShouldNotInitializeClass() throws URISyntaxException {
+        ClassFile.read(classFilePath(ANNOTATED));
+
+        assertThat(ClassFileElements.INITIALIZATIONS).hasValue(0);
+    }
+
+    @Test
+    void readShouldReturnClassName() throws URISyntaxException {
+        assertThat(ClassFile.read(classFilePath(ANNOTATED)).name()).isEqualTo(ANNOTATED);
+    }
+
+    @Test
+    void readShouldOnlyReturnRuntimeVisibleAnnotations() throws URISyntaxException {
+        assertThat(ClassFile.read(classFilePath(ANNOTATED)).annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly(AllValues.class.getName());
+    }
+
+    @Test
+    void readShouldDecodeEveryElementValueType() throws URISyntaxException {
+        var annotation = ClassFile.read(classFilePath(ANNOTATED)).annotations().get(0);
+
+        assertThat(annotation.attributes()).containsExactly(
+                entry("b", (byte) 1),
+                entry("c", 'c'),
+                entry("s", (short) 2),
+                entry("z", true),
+                entry("i", 3),
+                entry("j", 4L),
+                entry("f", 5.5f),
+                entry("d", 6.5d),
+                entry("string", "é中"),
+                entry("unit", "DAYS"),
+                entry("type", "java.lang.String[]"),
+                entry("nested", new ClassFileAnnotation(Nested.class.getName(), Map.of("value", "nested"))),
+                entry("array", List.of(7, 8)));
+    }
+
+    @Test
+    void readShouldMergeTopLevelTypeUseAnnotationsOfFields() throws URISyntaxException {
+        var classFile = ClassFile.read(classFilePath(ANNOTATED));
+
+        assertThat(classFile.field("field").orElseThrow().annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly(Nested.class.getName(), TypeUse.class.getName());
+        assertThat(classFile.field("both").orElseThrow().annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly(FieldAndTypeUse.class.getName());
+        assertThat(classFile.field("nestedTypeUse").orElseThrow().annotations())
+                .isEmpty();
+    }
+
+    @Test
+    void readShouldNotMergeTypeUseAnnotationsOfMethods() throws URISyntaxException {
+        assertThat(ClassFile.read(classFilePath(ANNOTATED)).method("method").orElseThrow().annotations())
+                .extracting(ClassFileAnnotation::type)
+                .containsExactly(Nested.class.getName());
+    }
+
+    @Test
+    void readShouldReadFromBuffer() throws Exception {
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(classFilePath(ANNOTATED)));
+
+        assertThat(ClassFile.read(buffer).name()).isEqualTo(ANNOTATED);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void readShouldThrowWhenNotClassFile() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ClassFile.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4})))
+                .withMessage("Not a class file");
+    }
+
+    @Test
+    void readShouldThrowWhenTruncated() {
+        var magicOnly = new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE};
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ClassFile.read(ByteBuffer.wrap(magicOnly)))
+                .withMessage("Truncated or malformed class file");
+    }
+
+    @Test
+    void assertHasAnnotationShouldReturnObjectAssertForClassFileElement() throws URISyntaxException {
+        var classFile = ClassFile.read(classFilePath(ANNOTATED));
+
+        assertHasAnnotation(classFile.method("method").orElseThrow(), Nested.class)
+                .extracting(a -> a.attribute("value"))
+                .isEqualTo(Optional.of("method"));
+    }
+
+    @Test
+    void assertHasAnnotationShouldThrowWhenClassFileElementDoesntHaveAnnotation() throws URISyntaxException {
+        var classFile = ClassFile.read(classFilePath(ANNOTATED));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(classFile, Nested.class))
+                .withMessage("Cannot find annotation of type Nested");
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.nested.NestedElements;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassPathScannerTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+
+    @Test
+    void shouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(ClassPathScanner.class);
+    }
+
+    @Test
+    void scanShouldFindClassesInDirectoryIncludingSubPackages() {
+        assertThat(ClassPathScanner.scan(SCANNED_PACKAGE, getClass().getClassLoader()))
+                .contains(
+                        ScannedElements.class.getName(),
+                        ScannedElements.SecuredStereotype.class.getName(),
+                        NestedElements.NestedSecuredStereotype.class.getName())
+                .allMatch(name -> name.startsWith(SCANNED_PACKAGE + "."));
+    }
+
+    @Test
+    void scanShouldFindClassesInJar() {
+        assertThat(ClassPathScanner.scan("org.opentest4j", getClass().getClassLoader()))
+                .contains(AssertionFailedError.class.getName())
+                .noneMatch(name -> name.endsWith("module-info"));
+    }
+
+    @Test
+    void scanShouldReturnEmptyForUnknownPackage() {
+        assertThat(ClassPathScanner.scan("io.blt.unknown", getClass().getClassLoader())).isEmpty();
+    }
+
+    @Test
+    void scanByPackageShouldGroupClassesByPackage() {
+        assertThat(ClassPathScanner.scanByPackage(SCANNED_PACKAGE, getClass().getClassLoader()))
+                .hasSize(2)
+                .satisfiesExactly(
+                        p -> assertThat(p).allMatch(name -> ClassPathScanner.packageOf(name).equals(SCANNED_PACKAGE)),
+                        p -> assertThat(p).containsExactly(
+                                NestedElements.class.getName(),
+                                NestedElements.NestedSecuredStereotype.class.getName()));
+    }
+
+}
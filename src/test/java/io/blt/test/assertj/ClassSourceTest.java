@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.AssertUtils;
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Secured;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Stereotype;
+import io.blt.test.assertj.testable.scanned.nested.NestedElements;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertThatClassFilesIn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ClassSourceTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+    private static final String NESTED_PACKAGE = NestedElements.class.getPackageName();
+
+    @TempDir
+    Path dir;
+
+    private Path archive;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        archive = dir.resolve("service.jar");
+
+        try (var jar = new ZipOutputStream(Files.newOutputStream(archive))) {
+            putClasses(jar, "", List.of(AssertUtils.class.getName()));
+            putClasses(jar, "BOOT-INF/classes/", scan(SCANNED_PACKAGE).stream()
+                                                                      .filter(n -> !n.startsWith(NESTED_PACKAGE))
+                                                                      .collect(Collectors.toList()));
+            putStored(jar, "BOOT-INF/lib/nested.jar", nestedJar());
+        }
+    }
+
+    @Test
+    void archiveShouldReadClassesFromRootClassesDirectoryAndNestedArchives() {
+        assertThat(names(ClassSource.archive(archive)))
+                .contains(AssertUtils.class.getName(), Secured.class.getName())
+                .containsAll(scan(NESTED_PACKAGE));
+    }
+
+    @Test
+    void inPackageShouldOnlyReadClassesInPackageAndSubPackages() {
+        assertThat(names(ClassSource.archive(archive).inPackage(SCANNED_PACKAGE)))
+                .containsExactlyInAnyOrderElementsOf(scan(SCANNED_PACKAGE));
+    }
+
+    @Test
+    void forEachShouldThrowIfArchiveCannotBeRead() {
+        var source = ClassSource.archive(dir.resolve("missing.jar"));
+
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> source.forEach(c -> {}))
+                .withMessage("Failed to read archive " + dir.resolve("missing.jar"));
+    }
+
+    @Test
+    void allHaveAnnotationShouldThrowListingEveryClassWithoutAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFilesIn(ClassSource.archive(archive).inPackage(SCANNED_PACKAGE))
+                        .annotatedWith(Stereotype.class)
+                        .allHaveAnnotation(Secured.class))
+                .withMessage(
+                        "Expecting all class files in " + archive + " in " + SCANNED_PACKAGE +
+                        " annotated with Stereotype to have annotation of type Secured but 1 did not:" +
+                        System.lineSeparator() +
+                        "  " + ScannedElements.UnsecuredStereotype.class.getName());
+    }
+
+    @Test
+    void allHaveAnnotationShouldNotThrowWhenEveryClassHasAnnotation() {
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassFilesIn(ClassSource.archive(archive).inPackage(NESTED_PACKAGE))
+                        .annotatedWith(Stereotype.class)
+                        .allHaveAnnotation(Secured.class));
+    }
+
+    @Test
+    void noneHaveAnnotationShouldThrowListingEveryClassWithAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFilesIn(ClassSource.archive(archive))
+                        .filteredOn(c -> c.name().endsWith("Stereotype"), "named *Stereotype")
+                        .noneHaveAnnotation(Secured.class))
+                .withMessageContaining("named *Stereotype not to have annotation of type Secured but 3 did not:");
+    }
+
+    @Test
+    void noneHaveAnnotationShouldNotThrowWhenNoClassHasAnnotation() {
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassFilesIn(ClassSource.archive(archive))
+                        .annotatedWith(Secured.class)
+                        .noneHaveAnnotation(Deprecated.class));
+    }
+
+    private static byte[] nestedJar() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var jar = new ZipOutputStream(bytes)) {
+            jar.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            jar.write("Manifest-Version: 1.0\n".getBytes());
+            putClasses(jar, "", scan(NESTED_PACKAGE));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void putClasses(ZipOutputStream jar, String root, Collection<String> classNames) throws IOException {
+        for (var name : classNames) {
+            var resource = name.replace('.', '/') + ".class";
+            try (var in = ClassSourceTest.class.getClassLoader().getResourceAsStream(resource)) {
+                jar.putNextEntry(new ZipEntry(root + resource));
+                in.transferTo(jar);
+            }
+        }
+    }
+
+    private static void putStored(ZipOutputStream jar, String name, byte[] content) throws IOException {
+        var crc = new CRC32();
+        crc.update(content);
+
+        var entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+
+        jar.putNextEntry(entry);
+        jar.write(content);
+    }
+
+    private static Collection<String> scan(String packageName) {
+        return ClassPathScanner.scan(packageName, ClassSourceTest.class.getClassLoader());
+    }
+
+    private static List<String> names(ClassSource source) {
+        var names = new ArrayList<String>();
+        source.forEach(c -> names.add(c.name()));
+        return names;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Secured;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Stereotype;
+import io.blt.test.assertj.testable.unlinked.UnlinkedElements;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertThatClassesIn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ClassesAssertTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+    private static final String UNLINKED_PACKAGE = UnlinkedElements.class.getPackageName();
+
+    @Test
+    void allHaveAnnotationShouldThrowListingEveryClassWithoutAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .annotatedWith(Stereotype.class)
+                        .allHaveAnnotation(Secured.class))
+                .withMessage(
+                        "Expecting all classes in " + SCANNED_PACKAGE + " annotated with Stereotype " +
+                        "to have annotation of type Secured but 1 did not:" + System.lineSeparator() +
+                        "  " + ScannedElements.UnsecuredStereotype.class.getName());
+    }
+
+    @Test
+    void allHaveAnnotationShouldNotThrowWhenEveryClassHasAnnotation() {
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .annotatedWith(Stereotype.class)
+                        .filteredOn(c -> !c.getSimpleName().startsWith("Unsecured"), "not named Unsecured*")
+                        .allHaveAnnotation(Secured.class));
+    }
+
+    @Test
+    void satisfyingShouldThrowListingEveryClassNotMeetingRequirements() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .annotatedWith(Secured.class)
+                        .allHaveAnnotation(Secured.class)
+                        .satisfying(a -> assertThat(a.role()).isEqualTo("admin")))
+                .withMessageStartingWith(
+                        "Expecting all classes in " + SCANNED_PACKAGE + " annotated with Secured " +
+                        "to have annotation of type Secured satisfying requirements but 1 did not:" +
+                        System.lineSeparator() +
+                        "  " + ScannedElements.UserSecuredStereotype.class.getName() + ": ");
+    }
+
+    @Test
+    void satisfyingShouldNotThrowWhenEveryAnnotationMeetsRequirements() {
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .annotatedWith(Secured.class)
+                        .allHaveAnnotation(Secured.class)
+                        .satisfying(a -> assertThat(a.role()).isNotBlank()));
+    }
+
+    @Test
+    void noneHaveAnnotationShouldThrowListingEveryClassWithAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .filteredOn(c -> c.getSimpleName().endsWith("Stereotype"), "named *Stereotype")
+                        .noneHaveAnnotation(Secured.class))
+                .withMessageContaining("not to have annotation of type Secured but 3 did not:");
+    }
+
+    @Test
+    void noneHaveAnnotationShouldNotThrowWhenNoClassHasAnnotation() {
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .filteredOn(c -> c.getSimpleName().equals("Plain"), "named Plain")
+                        .noneHaveAnnotation(Stereotype.class));
+    }
+
+    @Test
+    void withResultCacheShouldReportViolationsOnEveryRun(@TempDir Path dir) {
+        var cache = dir.resolve("verification.cache");
+
+        for (var run = 0; run < 2; run++) {
+            assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                            .withResultCache(cache)
+                            .annotatedWith(Stereotype.class)
+                            .allHaveAnnotation(Secured.class))
+                    .withMessageEndingWith("  " + ScannedElements.UnsecuredStereotype.class.getName());
+        }
+        assertThat(cache).exists();
+    }
+
+    @Test
+    void withResultCacheShouldNotThrowWhenCachedClassesComply(@TempDir Path dir) {
+        var cache = dir.resolve("verification.cache");
+
+        for (var run = 0; run < 2; run++) {
+            assertThatNoException()
+                    .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                            .annotatedWith(Secured.class)
+                            .withResultCache(cache)
+                            .noneHaveAnnotation(Deprecated.class));
+        }
+    }
+
+    @Test
+    void rulesShouldThrowListingEveryClassThatCannotBeLoaded(@TempDir Path dir) throws IOException {
+        try (var loader = unlinkedLoader(dir)) {
+            withContextClassLoader(loader, () -> {
+                assertThatExceptionOfType(AssertionError.class)
+                        .isThrownBy(() -> assertThatClassesIn(UNLINKED_PACKAGE).noneHaveAnnotation(Deprecated.class))
+                        .withMessage(
+                                "Expecting all classes in " + UNLINKED_PACKAGE + " " +
+                                "not to have annotation of type Deprecated but 1 did not:" + System.lineSeparator() +
+                                "  " + UnlinkedElements.Unlinked.class.getName() + " (could not be loaded: " +
+                                "java.lang.NoClassDefFoundError: org/junit/jupiter/api/function/Executable)");
+            });
+        }
+    }
+
+    @Test
+    void ignoringUnloadableClassesShouldSkipClassesThatCannotBeLoaded(@TempDir Path dir) throws IOException {
+        try (var loader = unlinkedLoader(dir)) {
+            withContextClassLoader(loader, () -> {
+                assertThatNoException()
+                        .isThrownBy(() -> assertThatClassesIn(UNLINKED_PACKAGE)
+                                .ignoringUnloadableClasses()
+                                .noneHaveAnnotation(Deprecated.class));
+            });
+        }
+    }
+
+    /**
+     * Copies the unlinked fixtures, but not the test class path they depend on, into a directory.
+     */
+    static URLClassLoader unlinkedLoader(Path dir) throws IOException {
+        var path = UNLINKED_PACKAGE.replace('.', '/');
+        var target = Files.createDirectories(dir.resolve(path));
+        for (var clazz : UnlinkedElements.class.getDeclaredClasses()) {
+            copyClassFile(clazz, target);
+        }
+        copyClassFile(UnlinkedElements.class, target);
+        return new URLClassLoader(new URL[] {dir.toUri().toURL()}, null);
+    }
+
+    static void withContextClassLoader(ClassLoader loader, Runnable runnable) {
+        var thread = Thread.currentThread();
+        var context = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            runnable.run();
+        } finally {
+            thread.setContextClassLoader(context);
+        }
+    }
+
+    private static void copyClassFile(Class<?> clazz, Path directory) throws IOException {
+        var name = clazz.getName().substring(clazz.getPackageName().length() + 1) + ".class";
+        try (var in = clazz.getResourceAsStream(name)) {
+            Files.copy(in, directory.resolve(name));
+        }
+    }
+
+}
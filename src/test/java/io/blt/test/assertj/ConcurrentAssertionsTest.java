@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.MetaTargetAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.RepeatedAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetFieldAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetMethodAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithDefaultTargetAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithMetaAnnotation;
+import io.blt.test.assertj.testable.AnnotatedElements.TypeWithRepeatedAnnotations;
+import io.blt.test.assertj.testable.ParameterElements.Controller;
+import io.blt.test.assertj.testable.ParameterElements.Inject;
+import io.blt.test.assertj.testable.ParameterElements.RequestParam;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasRepeatedAnnotations;
+import static io.blt.test.assertj.testable.AnnotatedElements.fieldWithDefaultTargetAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.methodWithDefaultTargetAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ConcurrentAssertionsTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    void assertionsShouldFindSameAnnotationsFromEveryPlatformThread() throws Exception {
+        assertConsistentAcrossThreads(Executors.newFixedThreadPool(THREADS));
+    }
+
+    @Test
+    void assertionsShouldFindSameAnnotationsFromEveryVirtualThread() throws Exception {
+        var executor = virtualThreadExecutor();
+        assumeTrue(executor != null, "Virtual threads require JDK 21 or later");
+
+        assertConsistentAcrossThreads(executor);
+    }
+
+    @Test
+    void repeatedShouldBeComputedOncePerIndex() {
+        var index = AnnotationIndex.of(TypeWithRepeatedAnnotations.class);
+
+        assertThat(index.repeated(RepeatedAnnotation.class))
+                .hasSize(2)
+                .isSameAs(index.repeated(RepeatedAnnotation.class));
+    }
+
+    private static void assertConsistentAcrossThreads(ExecutorService executor) throws Exception {
+        var workloads = workloads();
+        var expected = new ArrayList<Object>();
+        workloads.forEach(w -> expected.add(w.get()));
+
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<?>>();
+        try {
+            for (var thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (var i = 0; i < ITERATIONS; i++) {
+                        for (var w = 0; w < workloads.size(); w++) {
+                            assertThat(workloads.get(w).get()).isSameAs(expected.get(w));
+                        }
+                        assertThatExceptionOfType(AssertionError.class)
+                                .isThrownBy(() -> assertHasAnnotation(Controller.class, TargetTypeAnnotation.class));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Supplier<Object>> workloads() throws NoSuchMethodException {
+        var constructor = Controller.class.getConstructor(String.class);
+        var parameter = constructor.getParameters()[0];
+
+        return List.of(
+                () -> assertHasAnnotation(TypeWithDefaultTargetAnnotation.class, TargetTypeAnnotation.class).actual(),
+                () -> assertHasAnnotation(methodWithDefaultTargetAnnotation, TargetMethodAnnotation.class).actual(),
+                () -> assertHasAnnotation(fieldWithDefaultTargetAnnotation, TargetFieldAnnotation.class).actual(),
+                () -> assertHasAnnotation(constructor, Inject.class).actual(),
+                () -> assertHasAnnotation(parameter, RequestParam.class).actual(),
+                () -> assertHasAnnotation(TypeWithMetaAnnotation.class, MetaTargetAnnotation.class,
+                                          SearchOption.META_ANNOTATIONS).actual(),
+                () -> assertHasRepeatedAnnotations(TypeWithRepeatedAnnotations.class, RepeatedAnnotation.class)
+                        .actual());
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+}
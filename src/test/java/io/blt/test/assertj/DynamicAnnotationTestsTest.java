@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.MemberElements.Publisher;
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Secured;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Stereotype;
+import io.blt.test.assertj.testable.unlinked.UnlinkedElements;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.ClassesAssertTest.unlinkedLoader;
+import static io.blt.test.assertj.ClassesAssertTest.withContextClassLoader;
+import static io.blt.test.assertj.DynamicAnnotationTests.forEachClassIn;
+import static io.blt.test.assertj.DynamicAnnotationTests.forEachFieldIn;
+import static io.blt.test.assertj.DynamicAnnotationTests.forEachMethodIn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class DynamicAnnotationTestsTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+    private static final String UNLINKED_PACKAGE = UnlinkedElements.class.getPackageName();
+    private static final String UNLOADABLE = UnlinkedElements.Unlinked.class.getName() +
+            " (could not be loaded: java.lang.NoClassDefFoundError: org/junit/jupiter/api/function/Executable)";
+
+    @Test
+    void shouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(DynamicAnnotationTests.class);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> stereotypesShouldBeAnnotatedAsStereotypes() {
+        return forEachClassIn(SCANNED_PACKAGE, c -> {
+            if (!c.isAnnotation() && c.getSimpleName().endsWith("Stereotype")) {
+                assertHasAnnotation(c, Stereotype.class);
+            }
+        });
+    }
+
+    @Test
+    void forEachClassInShouldNameTestsAfterClassesInOrder() {
+        assertThat(forEachClassIn(SCANNED_PACKAGE, c -> {}))
+                .extracting(DynamicNode::getDisplayName)
+                .contains(ScannedElements.SecuredStereotype.class.getName(),
+                          ScannedElements.UnsecuredStereotype.class.getName())
+                .isSorted();
+    }
+
+    @Test
+    void forEachClassInShouldNotCheckClassesUntilTestsAreExecuted() {
+        var checked = new AtomicInteger();
+
+        var tests = forEachClassIn(SCANNED_PACKAGE, c -> checked.incrementAndGet())
+                .limit(2)
+                .toArray(DynamicTest[]::new);
+
+        assertThat(checked).hasValue(0);
+        assertThatNoException().isThrownBy(() -> tests[0].getExecutable().execute());
+        assertThat(checked).hasValue(1);
+    }
+
+    @Test
+    void forEachClassInShouldFailTestOfViolatingClass() {
+        var test = forEachClassIn(SCANNED_PACKAGE, c -> assertHasAnnotation(c, Secured.class))
+                .filter(t -> t.getDisplayName().equals(ScannedElements.UnsecuredStereotype.class.getName()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> test.getExecutable().execute());
+    }
+
+    @Test
+    void forEachClassInShouldFailTestOfClassThatCannotBeLoaded(@TempDir Path dir) throws IOException {
+        try (var loader = unlinkedLoader(dir)) {
+            withContextClassLoader(loader, () -> {
+                var test = forEachClassIn(UNLINKED_PACKAGE, c -> {})
+                        .filter(t -> t.getDisplayName().equals(UnlinkedElements.Unlinked.class.getName()))
+                        .findFirst()
+                        .orElseThrow();
+
+                assertThatExceptionOfType(AssertionError.class)
+                        .isThrownBy(() -> test.getExecutable().execute())
+                        .withMessage(UNLOADABLE)
+                        .withCauseInstanceOf(NoClassDefFoundError.class);
+            });
+        }
+    }
+
+    @Test
+    void forEachMethodInShouldFailContainerOfClassThatCannotBeLoaded(@TempDir Path dir) throws IOException {
+        try (var loader = unlinkedLoader(dir)) {
+            withContextClassLoader(loader, () -> {
+                var container = forEachMethodIn(UNLINKED_PACKAGE, m -> {})
+                        .filter(c -> c.getDisplayName().equals(UnlinkedElements.Unlinked.class.getName()))
+                        .findFirst()
+                        .orElseThrow();
+
+                assertThatExceptionOfType(AssertionError.class)
+                        .isThrownBy(() -> container.getChildren().count())
+                        .withMessage(UNLOADABLE);
+            });
+        }
+    }
+
+    @Test
+    void forEachMethodInShouldContainATestPerDeclaredMethod() {
+        var container = forEachMethodIn(Publisher.class.getPackageName(), m -> {})
+                .filter(c -> c.getDisplayName().equals(Publisher.class.getName()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(container.getChildren())
+                .extracting(DynamicNode::getDisplayName)
+                .containsExactly(
+                        "create()", "flush()", "getRecipient()", "isActive()", "reset()",
+                        "send(String)", "send(String, int)");
+    }
+
+    @Test
+    void forEachFieldInShouldContainATestPerDeclaredField() {
+        var container = forEachFieldIn(Publisher.class.getPackageName(), f -> {})
+                .filter(c -> c.getDisplayName().equals(Publisher.class.getName()))
+                .map(DynamicContainer.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(container.getChildren())
+                .extracting(DynamicNode::getDisplayName)
+                .containsExactly("LIMIT", "active", "recipient");
+    }
+
+}
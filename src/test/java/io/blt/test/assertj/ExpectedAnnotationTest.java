@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.AnnotatedElements.TargetTypeAnnotation;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.expectedAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.AttributedAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.ConstantAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithConstantAnnotation;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithCustomAttributes;
+import static io.blt.test.assertj.testable.AnnotatedElements.TypeWithDefaultAttributes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ExpectedAnnotationTest {
+
+    private static final AttributedAnnotation CUSTOM = TypeWithCustomAttributes.class
+            .getAnnotation(AttributedAnnotation.class);
+
+    private static final AttributedAnnotation DEFAULT = TypeWithDefaultAttributes.class
+            .getAnnotation(AttributedAnnotation.class);
+
+    @Test
+    void buildShouldHonourAnnotationEqualsAndHashCodeContract() {
+        var expected = expectedAnnotation(AttributedAnnotation.class)
+                .with("name", "attributed custom name")
+                .with("values", new int[] {3})
+                .with("types", new Class<?>[] {String.class})
+                .with("required", false)
+                .build();
+
+        assertThat(expected).isEqualTo(CUSTOM).hasSameHashCodeAs(CUSTOM).isNotEqualTo(DEFAULT);
+        assertThat(CUSTOM).isEqualTo(expected);
+        assertThat(expected.annotationType()).isEqualTo(AttributedAnnotation.class);
+    }
+
+    @Test
+    void buildShouldUseDefaultsForUnsetAttributes() {
+        var expected = expectedAnnotation(AttributedAnnotation.class).with("required", true).build();
+
+        assertThat(expected.name()).isEqualTo("attributed default name");
+        assertThat(expected.values()).containsExactly(1, 2);
+        assertThat(expected).isEqualTo(DEFAULT).hasSameHashCodeAs(DEFAULT);
+    }
+
+    @Test
+    void buildShouldBeEqualToOtherSyntheticInstanceWithSameValues() {
+        var first = expectedAnnotation(TargetTypeAnnotation.class).with("name", "a").build();
+        var second = expectedAnnotation(TargetTypeAnnotation.class).with("name", "a").build();
+        var different = expectedAnnotation(TargetTypeAnnotation.class).with("name", "b").build();
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second).isNotEqualTo(different);
+        assertThat(first).hasToString("@" + TargetTypeAnnotation.class.getName() + "(name=\"a\")");
+    }
+
+    @Test
+    void attributeMethodsShouldReturnCopiesOfArrays() {
+        var values = new int[] {3};
+        var expected = expectedAnnotation(AttributedAnnotation.class)
+                .with("values", values)
+                .with("required", false)
+                .build();
+
+        values[0] = 4;
+        expected.values()[0] = 5;
+
+        assertThat(expected.values()).containsExactly(3);
+    }
+
+    @Test
+    void buildShouldIgnoreStaticAndSyntheticMembersOfAnnotationType() {
+        var found = TypeWithConstantAnnotation.class.getAnnotation(ConstantAnnotation.class);
+        var expected = expectedAnnotation(ConstantAnnotation.class).with("timeout", 30).build();
+
+        // found.equals(expected) is not asserted: the JDK rejects the members a coverage agent adds to this type
+        assertThat(expected).isEqualTo(found).hasSameHashCodeAs(found);
+        assertThat(expected).hasToString(
+                "@" + ConstantAnnotation.class.getName() + "(name=\"constant default name\", timeout=30)");
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(TypeWithConstantAnnotation.class, ConstantAnnotation.class)
+                        .isEquivalentTo(expected));
+    }
+
+    @Test
+    void withShouldThrowWhenAttributeDoesNotExist() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> expectedAnnotation(AttributedAnnotation.class).with("unknown", 1))
+                .withMessage("Annotation of type AttributedAnnotation has no attribute named unknown");
+    }
+
+    @Test
+    void withShouldThrowWhenValueIsOfWrongType() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> expectedAnnotation(AttributedAnnotation.class).with("required", "yes"))
+                .withMessage("Attribute required of annotation of type AttributedAnnotation must be of type boolean " +
+                             "but was String");
+    }
+
+    @Test
+    void buildShouldThrowWhenAttributeWithoutDefaultIsUnset() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> expectedAnnotation(AttributedAnnotation.class).build())
+                .withMessage("Attribute required of annotation of type AttributedAnnotation has no default value " +
+                             "and must be set");
+    }
+
+    @Test
+    void isEquivalentToShouldNotThrowWhenAttributesMatch() {
+        var expected = expectedAnnotation(AttributedAnnotation.class).with("required", true).build();
+
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(TypeWithDefaultAttributes.class, AttributedAnnotation.class)
+                        .isEquivalentTo(expected));
+    }
+
+    @Test
+    void isEquivalentToShouldReportEveryMismatchedAttribute() {
+        var expected = expectedAnnotation(AttributedAnnotation.class).with("required", true).build();
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class)
+                        .isEquivalentTo(expected))
+                .withMessageStartingWith(
+                        "Expecting annotation of type AttributedAnnotation to be equivalent to expected but:")
+                .withMessageContaining(
+                        "  name: expected \"attributed default name\" but was \"attributed custom name\"")
+                .withMessageContaining("  required: expected true but was false")
+                .withMessageContaining("  values: expected [1, 2] but was [3]");
+    }
+
+    @Test
+    void isEquivalentToShouldThrowWhenTypesDiffer() {
+        var expected = expectedAnnotation(TargetTypeAnnotation.class).build();
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(TypeWithCustomAttributes.class, AttributedAnnotation.class)
+                        .isEquivalentTo(expected))
+                .withMessage("Expecting annotation of type TargetTypeAnnotation but was AttributedAnnotation");
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class IndexedAnnotationsTest {
+
+    private static final String[] STRINGS = {
+            "com.acme.Annotated", "com.acme.Transactional", "b", "c", "s", "z", "i", "j", "f", "d", "string", "é中",
+            "unit", "DAYS", "type", "java.lang.String[]", "nested", "com.acme.Nested", "array", "field",
+            "Ljava/lang/String;", "method", "()V", "com.acme.Unannotated", "java.lang.Deprecated"
+    };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findShouldDecodeEveryElementValueType() throws IOException {
+        var annotation = IndexedAnnotations.read(writeIndex(index()))
+                .find("com.acme.Annotated").orElseThrow()
+                .annotations().get(0);
+
+        assertThat(annotation.type()).isEqualTo("com.acme.Transactional");
+        assertThat(annotation.attributes()).containsExactly(
+                entry("b", (byte) 1),
+                entry("c", 'c'),
+                entry("s", (short) 2),
+                entry("z", true),
+                entry("i", 3),
+                entry("j", 4L),
+                entry("f", 5.5f),
+                entry("d", 6.5d),
+                entry("string", "é中"),
+                entry("unit", "DAYS"),
+                entry("type", "java.lang.String[]"),
+                entry("nested", new ClassFileAnnotation("com.acme.Nested", Map.of())),
+                entry("array", List.of(7, 8)));
+    }
+
+    @Test
+    void findShouldReturnMembers() throws IOException {
+        var classFile = IndexedAnnotations.read(writeIndex(index())).find("com.acme.Annotated").orElseThrow();
+
+        assertThat(classFile.name()).isEqualTo("com.acme.Annotated");
+        assertThat(classFile.field("field").orElseThrow())
+                .returns("Ljava/lang/String;", ClassFileMember::descriptor)
+                .extracting(ClassFileMember::annotations)
+                .isEqualTo(List.of(new ClassFileAnnotation("com.acme.Nested", Map.of())));
+        assertThat(classFile.method("method").orElseThrow())
+                .returns("()V", ClassFileMember::descriptor)
+                .extracting(ClassFileMember::annotations)
+                .isEqualTo(List.of());
+    }
+
+    @Test
+    void findShouldReturnSameInstanceForRepeatedLookups() throws IOException {
+        var index = IndexedAnnotations.read(writeIndex(index()));
+
+        assertThat(index.find("com.acme.Annotated").orElseThrow())
+                .isSameAs(index.find("com.acme.Annotated").orElseThrow());
+    }
+
+    @Test
+    void findShouldReturnEmptyIfClassIsNotIndexed() throws IOException {
+        assertThat(IndexedAnnotations.read(writeIndex(index())).find(IndexedAnnotationsTest.class)).isEmpty();
+    }
+
+    @Test
+    void classNamesShouldReturnEveryIndexedClassInOrder() throws IOException {
+        assertThat(IndexedAnnotations.read(writeIndex(index())).classNames())
+                .containsExactly("com.acme.Annotated", "com.acme.Unannotated");
+    }
+
+    @Test
+    void findShouldSupportAssertHasAnnotation() throws IOException {
+        var classFile = IndexedAnnotations.read(writeIndex(index())).find("com.acme.Annotated").orElseThrow();
+
+        assertHasAnnotation(classFile, Deprecated.class);
+    }
+
+    @Test
+    void loadShouldReadIndexesFromClassPath() throws IOException {
+        var resource = dir.resolve(IndexedAnnotations.INDEX_RESOURCE);
+        Files.createDirectories(resource.getParent());
+        Files.write(resource, index());
+
+        try (var loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null)) {
+            assertThat(IndexedAnnotations.load(loader).classNames())
+                    .containsExactly("com.acme.Annotated", "com.acme.Unannotated");
+        }
+    }
+
+    @Test
+    void loadShouldReturnEmptyIfThereAreNoIndexes() throws IOException {
+        try (var loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null)) {
+            assertThat(IndexedAnnotations.load(loader).classNames()).isEmpty();
+        }
+    }
+
+    @Test
+    void readShouldThrowIfNotAnIndex() throws IOException {
+        var path = writeIndex(new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 1});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IndexedAnnotations.read(path))
+                .withMessage("Not an annotation index");
+    }
+
+    @Test
+    void readShouldThrowIfVersionIsUnsupported() throws IOException {
+        var index = index();
+        index[5] = 2;
+        var path = writeIndex(index);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IndexedAnnotations.read(path))
+                .withMessage("Unsupported annotation index version 2");
+    }
+
+    @Test
+    void readShouldThrowIfTruncated() throws IOException {
+        var index = index();
+        var path = writeIndex(Arrays.copyOf(index, 40));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IndexedAnnotations.read(path))
+                .withMessage("Truncated or malformed annotation index");
+    }
+
+    private Path writeIndex(byte[] index) throws IOException {
+        return Files.write(dir.resolve("annotations.idx"), index);
+    }
+
+    private static byte[] index() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+
+        out.writeInt(0x424C5449);
+        out.writeShort(1);
+
+        out.writeInt(STRINGS.length);
+        for (var string : STRINGS) {
+            out.writeUTF(string);
+        }
+
+        var body = new ByteArrayOutputStream();
+        var annotated = new DataOutputStream(body);
+        annotated.writeShort(2);
+        writeTransactional(annotated);
+        annotated.writeInt(string("java.lang.Deprecated"));
+        annotated.writeShort(0);
+        annotated.writeShort(1);
+        annotated.writeInt(string("field"));
+        annotated.writeInt(string("Ljava/lang/String;"));
+        annotated.writeShort(1);
+        annotated.writeInt(string("com.acme.Nested"));
+        annotated.writeShort(0);
+        annotated.writeShort(1);
+        annotated.writeInt(string("method"));
+        annotated.writeInt(string("()V"));
+        annotated.writeShort(0);
+        var unannotated = body.size();
+        annotated.writeShort(0);
+        annotated.writeShort(0);
+        annotated.writeShort(0);
+
+        out.writeInt(2);
+        out.writeInt(string("com.acme.Annotated"));
+        out.writeInt(0);
+        out.writeInt(string("com.acme.Unannotated"));
+        out.writeInt(unannotated);
+        body.writeTo(out);
+
+        return bytes.toByteArray();
+    }
+
+    private static void writeTransactional(DataOutputStream out) throws IOException {
+        out.writeInt(string("com.acme.Transactional"));
+        out.writeShort(13);
+        writeTag(out, "b", 'B').writeInt(1);
+        writeTag(out, "c", 'C').writeInt('c');
+        writeTag(out, "s", 'S').writeInt(2);
+        writeTag(out, "z", 'Z').writeBoolean(true);
+        writeTag(out, "i", 'I').writeInt(3);
+        writeTag(out, "j", 'J').writeLong(4L);
+        writeTag(out, "f", 'F').writeFloat(5.5f);
+        writeTag(out, "d", 'D').writeDouble(6.5d);
+        writeTag(out, "string", 's').writeInt(string("é中"));
+        writeTag(out, "unit", 'e').writeInt(string("DAYS"));
+        writeTag(out, "type", 'c').writeInt(string("java.lang.String[]"));
+        writeTag(out, "nested", '@').writeInt(string("com.acme.Nested"));
+        out.writeShort(0);
+        writeTag(out, "array", '[').writeShort(2);
+        out.writeByte('I');
+        out.writeInt(7);
+        out.writeByte('I');
+        out.writeInt(8);
+    }
+
+    private static DataOutputStream writeTag(DataOutputStream out, String name, char tag) throws IOException {
+        out.writeInt(string(name));
+        out.writeByte(tag);
+        return out;
+    }
+
+    private static int string(String value) {
+        return List.of(STRINGS).indexOf(value);
+    }
+
+}
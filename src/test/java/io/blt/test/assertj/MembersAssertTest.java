@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.MemberElements.Internal;
+import io.blt.test.assertj.testable.MemberElements.Publisher;
+import io.blt.test.assertj.testable.MemberElements.Transactional;
+import java.lang.reflect.Member;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static io.blt.test.assertj.AnnotationAssertions.assertMembersOf;
+import static io.blt.test.assertj.MemberPredicates.isGetter;
+import static io.blt.test.assertj.MemberPredicates.isPublic;
+import static io.blt.test.assertj.MemberPredicates.isStatic;
+import static io.blt.test.assertj.MemberPredicates.named;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class MembersAssertTest {
+
+    @Test
+    void memberPredicatesShouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(MemberPredicates.class);
+    }
+
+    @Test
+    void membersShouldBeSortedByDescription() {
+        assertThat(MemberMatrix.of(Publisher.class).methods())
+                .extracting(MemberMatrix::describe)
+                .containsExactly(
+                        "create()", "flush()", "getRecipient()", "isActive()", "reset()",
+                        "send(String)", "send(String, int)");
+    }
+
+    @Test
+    void matrixShouldBeComputedOncePerClass() {
+        assertThat(MemberMatrix.of(Publisher.class)).isSameAs(MemberMatrix.of(Publisher.class));
+    }
+
+    @Test
+    void allHaveAnnotationShouldNotThrowWhenEveryFilteredMemberIsAnnotated() {
+        assertThatNoException()
+                .isThrownBy(() -> assertMembersOf(Publisher.class)
+                        .methods()
+                        .filteredOn(named("send"))
+                        .hasSize(2)
+                        .allHaveAnnotation(Transactional.class));
+    }
+
+    @Test
+    void allHaveAnnotationShouldThrowListingEveryUnannotatedMember() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertMembersOf(Publisher.class)
+                        .methods()
+                        .filteredOn(isPublic())
+                        .filteredOn(isGetter().negate())
+                        .filteredOn(isStatic().negate())
+                        .allHaveAnnotation(Transactional.class))
+                .withMessage(String.format(
+                        "Expecting all methods of Publisher to have annotation of type Transactional but 1 did not:%n"
+                        + "  flush()"));
+    }
+
+    @Test
+    void noneHaveAnnotationShouldNotThrowWhenNoMemberIsAnnotated() {
+        assertThatNoException()
+                .isThrownBy(() -> assertMembersOf(Publisher.class)
+                        .fields()
+                        .filteredOn(isStatic())
+                        .noneHaveAnnotation(Internal.class));
+    }
+
+    @Test
+    void noneHaveAnnotationShouldThrowListingEveryAnnotatedMember() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertMembersOf(Publisher.class)
+                        .fields()
+                        .noneHaveAnnotation(Internal.class))
+                .withMessage(String.format(
+                        "Expecting all fields of Publisher not to have annotation of type Internal but 2 did not:%n"
+                        + "  active%n"
+                        + "  recipient"));
+    }
+
+    @Test
+    void constructorsShouldBeDescribedBySimpleClassName() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertMembersOf(Publisher.class)
+                        .constructors()
+                        .allHaveAnnotation(Transactional.class))
+                .withMessage(String.format(
+                        "Expecting all constructors of Publisher to have annotation of type Transactional "
+                        + "but 1 did not:%n"
+                        + "  Publisher(String)"));
+    }
+
+    @Test
+    void isGetterShouldMatchOnlyBeanAccessors() {
+        assertThat(MemberMatrix.of(Publisher.class).methods())
+                .filteredOn(isGetter())
+                .extracting(Member::getName)
+                .containsExactly("getRecipient", "isActive");
+    }
+
+}
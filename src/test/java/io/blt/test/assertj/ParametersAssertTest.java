@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.ParameterElements;
+import io.blt.test.assertj.testable.ParameterElements.Controller;
+import io.blt.test.assertj.testable.ParameterElements.Inject;
+import io.blt.test.assertj.testable.ParameterElements.Level;
+import io.blt.test.assertj.testable.ParameterElements.NonNull;
+import io.blt.test.assertj.testable.ParameterElements.Qualifier;
+import io.blt.test.assertj.testable.ParameterElements.Repository;
+import io.blt.test.assertj.testable.ParameterElements.RequestParam;
+import io.blt.test.assertj.testable.ParameterElements.Valid;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.MultipleFailuresError;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertAnnotationsOf;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotation;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertHasNoAnnotations;
+import static io.blt.test.assertj.AnnotationAssertions.assertParameters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ParametersAssertTest {
+
+    private static final Constructor<Controller> INJECTED_CONSTRUCTOR = constructor(String.class);
+    private static final Constructor<Controller> DEFAULT_CONSTRUCTOR = constructor();
+    private static final Method SEND = method("send", String.class, Object.class);
+    private static final Method VALIDATE = method("validate", String.class, String.class);
+
+    @Test
+    void assertHasAnnotationShouldReturnAnnotationOfConstructor() {
+        assertThat(assertHasAnnotation(INJECTED_CONSTRUCTOR, Inject.class).actual()).isInstanceOf(Inject.class);
+    }
+
+    @Test
+    void assertHasAnnotationShouldThrowWhenConstructorDoesntHaveAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(DEFAULT_CONSTRUCTOR, Inject.class))
+                .withMessage("Cannot find annotation of type Inject");
+    }
+
+    @Test
+    void assertHasAnnotationsAndHasNoAnnotationsShouldCheckConstructor() {
+        assertThatNoException()
+                .isThrownBy(() -> {
+                    assertHasAnnotations(INJECTED_CONSTRUCTOR, Inject.class);
+                    assertHasNoAnnotations(DEFAULT_CONSTRUCTOR, Inject.class);
+                    assertAnnotationsOf(INJECTED_CONSTRUCTOR).hasOnlyAnnotations(Inject.class);
+                });
+    }
+
+    @Test
+    void assertHasAnnotationShouldReturnAnnotationOfParameter() {
+        assertHasAnnotation(INJECTED_CONSTRUCTOR.getParameters()[0], RequestParam.class)
+                .extracting(RequestParam::value)
+                .isEqualTo("name");
+    }
+
+    @Test
+    void assertHasAnnotationShouldThrowWhenParameterDoesntHaveAnnotation() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(SEND.getParameters()[0], Valid.class))
+                .withMessage("Cannot find annotation of type Valid");
+    }
+
+    @Test
+    void assertAnnotationsOfShouldIncludeTypeUseAnnotationsOfParameters() {
+        assertThatNoException()
+                .isThrownBy(() -> assertAnnotationsOf(SEND.getParameters()[1])
+                        .hasOnlyAnnotations(Valid.class, NonNull.class));
+    }
+
+    @Test
+    void assertHasNoAnnotationsShouldThrowWhenParameterHasAnnotations() {
+        assertThatExceptionOfType(MultipleFailuresError.class)
+                .isThrownBy(() -> assertHasNoAnnotations(SEND.getParameters()[1], Valid.class, NonNull.class))
+                .satisfies(e -> assertThat(e.getFailures()).hasSize(2));
+    }
+
+    @Test
+    void assertHasAnnotationWithMetaAnnotationsShouldFindMetaAnnotationOfConstructorAndParameter()
+            throws NoSuchMethodException {
+        var constructor = Repository.class.getConstructor(String.class);
+
+        assertHasAnnotation(constructor, Qualifier.class, SearchOption.META_ANNOTATIONS)
+                .extracting(Qualifier::value)
+                .isEqualTo("primary");
+        assertHasAnnotation(constructor.getParameters()[0], Qualifier.class, SearchOption.META_ANNOTATIONS)
+                .extracting(Qualifier::value)
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void assertHasAnnotationWithHierarchyShouldFindAnnotationOfOverriddenMethodParameter()
+            throws NoSuchMethodException {
+        var parameter = Repository.class.getMethod("send", String.class).getParameters()[0];
+
+        assertThatNoException()
+                .isThrownBy(() -> assertHasAnnotation(parameter, Valid.class, SearchOption.HIERARCHY));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertHasAnnotation(parameter, Valid.class, SearchOption.META_ANNOTATIONS))
+                .withMessage("Cannot find annotation of type Valid");
+    }
+
+    @Test
+    void hasAnnotationShouldReturnAnnotationAtPosition() {
+        assertParameters(SEND)
+                .hasAnnotation(0, RequestParam.class)
+                .extracting(RequestParam::value)
+                .isEqualTo("to");
+    }
+
+    @Test
+    void hasAnnotationShouldThrowNamingPositionAndExecutable() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertParameters(SEND).hasAnnotation(0, Valid.class))
+                .withMessage("Cannot find annotation of type Valid on parameter 0 of send(String, Object)");
+    }
+
+    @Test
+    void hasAnnotationShouldThrowWhenPositionIsOutOfRange() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertParameters(SEND).hasAnnotation(2, Valid.class))
+                .withMessage("Expecting a parameter at position 2 but send(String, Object) has 2 parameters");
+    }
+
+    @Test
+    void annotationsOfShouldAssertAnnotationTypesAtPosition() {
+        assertThatNoException()
+                .isThrownBy(() -> assertParameters(SEND).annotationsOf(1).hasAnyOf(NonNull.class));
+    }
+
+    @Test
+    void allHaveAnnotationShouldNotThrowWhenEveryParameterIsAnnotated() {
+        assertThatNoException()
+                .isThrownBy(() -> assertParameters(VALIDATE).allHaveAnnotation(Valid.class));
+    }
+
+    @Test
+    void allHaveAnnotationShouldThrowListingEveryUnannotatedParameter() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertParameters(SEND).allHaveAnnotation(Valid.class))
+                .withMessage(String.format(
+                        "Expecting all parameters of send(String, Object) to have annotation of type Valid " +
+                        "but 1 did not:%n  0: java.lang.String arg0"));
+    }
+
+    @Test
+    void noneHaveAnnotationShouldThrowListingEveryAnnotatedParameter() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertParameters(VALIDATE).noneHaveAnnotation(Valid.class))
+                .withMessageContaining("not to have annotation of type Valid but 2 did not:");
+    }
+
+    @Test
+    void parametersOfShouldAlignAnnotationsOfInnerClassConstructor() throws NoSuchMethodException {
+        var constructor = ParameterElements.Inner.class.getConstructor(ParameterElements.class, String.class);
+
+        assertThatNoException()
+                .isThrownBy(() -> assertParameters(constructor)
+                        .hasAnnotation(1, Valid.class));
+        assertThat(AnnotationIndex.parametersOf(constructor)).isSameAs(AnnotationIndex.parametersOf(constructor));
+    }
+
+    @Test
+    void parametersOfShouldAlignAnnotationsOfLocalClassConstructor() {
+        var constructor = new ParameterElements().localConstructor("captured");
+
+        assertThat(constructor.getParameterCount()).isEqualTo(4);
+        var parameters = assertParameters(constructor);
+        parameters.annotationsOf(0).hasNoneOf(Valid.class, NonNull.class);
+        parameters.annotationsOf(1).hasOnlyAnnotations(Valid.class);
+        parameters.annotationsOf(2).hasOnlyAnnotations(NonNull.class);
+        parameters.annotationsOf(3).hasNoneOf(Valid.class, NonNull.class);
+    }
+
+    @Test
+    void parametersOfShouldAlignAnnotationsOfStaticLocalClassConstructor() {
+        var constructor = ParameterElements.staticLocalConstructor("captured");
+
+        assertThat(constructor.getParameterCount()).isEqualTo(3);
+        var parameters = assertParameters(constructor);
+        parameters.annotationsOf(0).hasOnlyAnnotations(Valid.class);
+        parameters.annotationsOf(1).hasOnlyAnnotations(NonNull.class);
+        parameters.annotationsOf(2).hasNoneOf(Valid.class, NonNull.class);
+    }
+
+    @Test
+    void parametersOfShouldAlignAnnotationsOfEnumConstructor() {
+        var constructor = Level.class.getDeclaredConstructors()[0];
+
+        assertThat(constructor.getParameterCount()).isEqualTo(4);
+        var parameters = assertParameters(constructor);
+        parameters.annotationsOf(0).hasNoneOf(Valid.class, NonNull.class);
+        parameters.annotationsOf(1).hasNoneOf(Valid.class, NonNull.class);
+        parameters.annotationsOf(2).hasOnlyAnnotations(Valid.class);
+        parameters.annotationsOf(3).hasOnlyAnnotations(NonNull.class);
+    }
+
+    private static Constructor<Controller> constructor(Class<?>... parameterTypes) {
+        try {
+            return Controller.class.getConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Controller.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
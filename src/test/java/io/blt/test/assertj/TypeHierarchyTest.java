@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static io.blt.test.AssertUtils.assertValidUtilityClass;
+import static io.blt.test.assertj.testable.AnnotatedElements.AnnotatedInterface;
+import static io.blt.test.assertj.testable.AnnotatedElements.AnnotatedSuperclass;
+import static io.blt.test.assertj.testable.AnnotatedElements.GenericHandler;
+import static io.blt.test.assertj.testable.AnnotatedElements.GenericHandlerImplementation;
+import static io.blt.test.assertj.testable.AnnotatedElements.HierarchySubclass;
+import static io.blt.test.assertj.testable.AnnotatedElements.InheritedInterfaceImplementation;
+import static io.blt.test.assertj.testable.AnnotatedElements.InterfaceMethodSuperclass;
+import static io.blt.test.assertj.testable.AnnotatedElements.ListHandlerImplementation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TypeHierarchyTest {
+
+    @Test
+    void shouldBeValidUtilityClass() throws NoSuchMethodException {
+        assertValidUtilityClass(TypeHierarchy.class);
+    }
+
+    @Test
+    void ofClassShouldReturnClassThenSupertypesBreadthFirst() {
+        assertThat(TypeHierarchy.of(HierarchySubclass.class))
+                .containsExactly(
+                        HierarchySubclass.class, AnnotatedSuperclass.class, AnnotatedInterface.class, Object.class);
+    }
+
+    @Test
+    void ofClassShouldReturnSameHierarchyForSameClass() {
+        assertThat(TypeHierarchy.of(HierarchySubclass.class)).isSameAs(TypeHierarchy.of(HierarchySubclass.class));
+    }
+
+    @Test
+    void ofMethodShouldReturnMethodThenOverriddenMethods() throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getMethod("interfaceMethod");
+
+        assertThat(TypeHierarchy.of(method))
+                .containsExactly(method, AnnotatedInterface.class.getMethod("interfaceMethod"));
+    }
+
+    @Test
+    void ofMethodShouldReturnOnlyMethodWhenPrivate() throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getDeclaredMethod("privateMethod");
+
+        assertThat(TypeHierarchy.of(method)).containsExactly(method);
+    }
+
+    @Test
+    void ofMethodShouldResolveTypeArgumentsOfGenericSupertypes() throws NoSuchMethodException {
+        var method = GenericHandlerImplementation.class.getMethod("handle", String.class);
+
+        assertThat(TypeHierarchy.of(method))
+                .containsExactly(method, GenericHandler.class.getMethod("handle", Object.class));
+    }
+
+    @Test
+    void ofMethodShouldResolveTypeArgumentsThroughIntermediateSupertypes() throws NoSuchMethodException {
+        var method = ListHandlerImplementation.class.getMethod("handle", List.class);
+
+        assertThat(TypeHierarchy.of(method))
+                .containsExactly(method, GenericHandler.class.getMethod("handle", Object.class));
+    }
+
+    @Test
+    void ofMethodShouldNotMatchOverloadWithDifferentTypeArgument() throws NoSuchMethodException {
+        var method = GenericHandlerImplementation.class.getMethod("handle", Integer.class);
+
+        assertThat(TypeHierarchy.of(method)).containsExactly(method);
+    }
+
+    @Test
+    void ofMethodWithTargetShouldSearchHierarchyOfTarget() throws NoSuchMethodException {
+        var method = InheritedInterfaceImplementation.class.getMethod("interfaceMethod");
+
+        assertThat(method.getDeclaringClass()).isEqualTo(InterfaceMethodSuperclass.class);
+        assertThat(TypeHierarchy.of(method)).containsExactly(method);
+        assertThat(TypeHierarchy.of(method, InheritedInterfaceImplementation.class))
+                .containsExactly(method, AnnotatedInterface.class.getMethod("interfaceMethod"));
+    }
+
+    @Test
+    void ofMethodWithTargetShouldThrowWhenMethodIsNotMember() throws NoSuchMethodException {
+        var method = GenericHandlerImplementation.class.getMethod("handle", String.class);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TypeHierarchy.of(method, HierarchySubclass.class))
+                .withMessage(GenericHandlerImplementation.class.getName() + " is not a supertype of " +
+                             HierarchySubclass.class.getName());
+    }
+
+    @Test
+    void ofMethodShouldReturnSameChainForSameMethod() throws NoSuchMethodException {
+        var method = HierarchySubclass.class.getMethod("superclassMethod");
+
+        assertThat(TypeHierarchy.of(method)).isSameAs(TypeHierarchy.of(method));
+    }
+
+}
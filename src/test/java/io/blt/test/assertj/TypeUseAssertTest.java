@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.TypeUseElements.Generic;
+import io.blt.test.assertj.testable.TypeUseElements.OtherTypeUse;
+import io.blt.test.assertj.testable.TypeUseElements.TypeUse;
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertTypeUse;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class TypeUseAssertTest {
+
+    private static Field field(String name) {
+        try {
+            return Generic.class.getField(name);
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Arguments path(String field, Function<TypeUseAssert, TypeUseAssert> path, String expected) {
+        return Arguments.arguments(field, path, expected);
+    }
+
+    static Stream<Arguments> hasAnnotationShouldFindAnnotationAtPath() {
+        return Stream.of(
+                path("list", a -> a.typeArgument(0), "argument"),
+                path("map", a -> a.typeArgument(1).typeArgument(0), "deep"),
+                path("array", TypeUseAssert::componentType, "component"),
+                path("upper", a -> a.typeArgument(0).upperBound(0), "upper"),
+                path("lower", a -> a.typeArgument(0).lowerBound(0), "lower"),
+                path("variable", a -> a.typeArgument(0), "variable"),
+                path("variable", a -> a.typeArgument(0).upperBound(0), "bound"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void hasAnnotationShouldFindAnnotationAtPath(String name,
+                                                 Function<TypeUseAssert, TypeUseAssert> path,
+                                                 String expected) {
+        assertThatNoException()
+                .isThrownBy(() -> path.apply(assertTypeUse(field(name)))
+                        .hasAnnotation(TypeUse.class)
+                        .extracting(TypeUse::value)
+                        .isEqualTo(expected));
+    }
+
+    @Test
+    void hasAnnotationShouldFindAnnotationOfTopLevelType() {
+        assertThatNoException()
+                .isThrownBy(() -> assertTypeUse(field("array")).hasAnnotation(OtherTypeUse.class));
+    }
+
+    @Test
+    void hasAnnotationShouldFindAnnotationOfMethodReturnType() throws NoSuchMethodException {
+        var method = Generic.class.getMethod("method");
+
+        assertThatNoException()
+                .isThrownBy(() -> assertTypeUse(method)
+                        .typeArgument(0)
+                        .hasAnnotation(TypeUse.class)
+                        .extracting(TypeUse::value)
+                        .isEqualTo("return"));
+    }
+
+    @Test
+    void hasAnnotationShouldThrowWithPathWhenAnnotationIsMissing() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("map")).typeArgument(0).hasAnnotation(TypeUse.class))
+                .withMessage("Cannot find annotation of type TypeUse on java.lang.String at typeArgument(0)");
+    }
+
+    @Test
+    void doesNotHaveAnnotationShouldThrowWhenAnnotationIsPresent() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("list")).typeArgument(0).doesNotHaveAnnotation(TypeUse.class))
+                .withMessage("Unexpected annotation of type TypeUse on java.lang.String at typeArgument(0)");
+    }
+
+    @Test
+    void doesNotHaveAnnotationShouldNotThrowWhenAnnotationIsMissing() {
+        assertThatNoException()
+                .isThrownBy(() -> assertTypeUse(field("list")).doesNotHaveAnnotation(TypeUse.class));
+    }
+
+    @Test
+    void typeArgumentShouldThrowWhenTypeIsNotParameterized() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("array")).typeArgument(0))
+                .withMessage("Expecting java.lang.String[] to be a parameterized type");
+    }
+
+    @Test
+    void typeArgumentShouldThrowWhenIndexIsOutOfRange() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("list")).typeArgument(1))
+                .withMessage("Expecting java.util.List<java.lang.String> to have typeArgument 1 but it has 1");
+    }
+
+    @Test
+    void componentTypeShouldThrowWhenTypeIsNotArray() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("list")).componentType())
+                .withMessage("Expecting java.util.List<java.lang.String> to be an array type");
+    }
+
+    @Test
+    void lowerBoundShouldThrowWhenTypeIsNotWildcard() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertTypeUse(field("list")).typeArgument(0).lowerBound(0))
+                .withMessage("Expecting java.lang.String at typeArgument(0) to be a wildcard");
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Secured;
+import java.io.IOException;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerificationCacheTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    void violationsShouldSkipClassesThatAlreadyComplied() {
+        var classes = cachedClasses();
+
+        assertThat(classes.violations(complying(), "rule")).isEmpty();
+        var scanned = evaluations.getAndSet(0);
+        assertThat(classes.violations(complying(), "rule")).isEmpty();
+
+        assertThat(scanned).isPositive();
+        assertThat(evaluations).hasValue(0);
+    }
+
+    @Test
+    void violationsShouldReevaluateWhenRuleChanges() {
+        var classes = cachedClasses();
+
+        classes.violations(complying(), "rule");
+        var scanned = evaluations.getAndSet(0);
+        classes.violations(complying(), "changed rule");
+
+        assertThat(evaluations).hasValue(scanned);
+    }
+
+    @Test
+    void violationsShouldReevaluateWhenFilterChanges() {
+        var classes = cachedClasses();
+
+        classes.filter(c -> true, "all", "all").violations(complying(), "rule");
+        evaluations.set(0);
+        classes.filter(c -> true, "every", "every").violations(complying(), "rule");
+
+        assertThat(evaluations).hasPositiveValue();
+    }
+
+    @Test
+    void violationsShouldAlwaysReevaluateViolations() {
+        var classes = cachedClasses();
+        Function<Class<?>, String> violating = c -> {
+            evaluations.incrementAndGet();
+            return c.getName();
+        };
+
+        var violations = classes.violations(violating, "rule");
+        var scanned = evaluations.getAndSet(0);
+
+        assertThat(classes.violations(violating, "rule")).isEqualTo(violations);
+        assertThat(evaluations).hasValue(scanned);
+    }
+
+    @Test
+    void violationsShouldNotCacheRulesWithoutFingerprint() {
+        var classes = cachedClasses();
+
+        classes.violations(complying());
+        var scanned = evaluations.getAndSet(0);
+        classes.violations(complying());
+
+        assertThat(evaluations).hasValue(scanned);
+    }
+
+    @Test
+    void violationsShouldNotCacheFiltersWithoutFingerprint() {
+        var classes = cachedClasses().filter(c -> true, "all");
+
+        classes.violations(complying(), "rule");
+        var scanned = evaluations.getAndSet(0);
+        classes.violations(complying(), "rule");
+
+        assertThat(evaluations).hasValue(scanned);
+    }
+
+    @Test
+    void violationsShouldResetInvalidCacheFile() throws IOException {
+        var path = Files.write(dir.resolve("invalid.cache"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+        var classes = ClassSet.scan(SCANNED_PACKAGE).cached(VerificationCache.at(path));
+
+        classes.violations(complying(), "rule");
+        evaluations.set(0);
+        classes.violations(complying(), "rule");
+
+        assertThat(evaluations).hasValue(0);
+    }
+
+    @Test
+    void atShouldReturnSameCacheForSamePath() {
+        assertThat(VerificationCache.at(dir.resolve("verification.cache")))
+                .isSameAs(VerificationCache.at(dir.resolve("other/../verification.cache")));
+    }
+
+    @Test
+    void fingerprintShouldIdentifyAnnotationTypeAndClassFile() {
+        assertThat(VerificationCache.fingerprint(Secured.class))
+                .matches(Secured.class.getName().replace("$", "\\$") + "@[0-9a-f]{64}");
+    }
+
+    @Test
+    void fingerprintShouldReturnNullForInheritedAnnotations() {
+        assertThat(VerificationCache.fingerprint(InheritedAnnotation.class)).isNull();
+    }
+
+    private ClassSet cachedClasses() {
+        return ClassSet.scan(SCANNED_PACKAGE).cached(VerificationCache.at(dir.resolve("verification.cache")));
+    }
+
+    private Function<Class<?>, String> complying() {
+        return c -> {
+            evaluations.incrementAndGet();
+            return null;
+        };
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface InheritedAnnotation {}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj;
+
+import io.blt.test.assertj.testable.scanned.ScannedElements;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Secured;
+import io.blt.test.assertj.testable.scanned.ScannedElements.Stereotype;
+import io.blt.test.assertj.testable.unlinked.UnlinkedElements;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+
+import static io.blt.test.assertj.AnnotationAssertions.assertThatClassesIn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ViolationReportTest {
+
+    private static final String SCANNED_PACKAGE = ScannedElements.class.getPackageName();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reportShouldListOnlySummaryLimitViolationsInFailure() {
+        var file = dir.resolve("reports/secured.sarif");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .reportingTo(ViolationReport.sarif(file).withSummaryLimit(1))
+                        .filteredOn(c -> c.getSimpleName().endsWith("Stereotype"), "named *Stereotype")
+                        .noneHaveAnnotation(Secured.class))
+                .withMessageContaining("not to have annotation of type Secured but 3 did not:")
+                .withMessageContaining("  ... and 2 more")
+                .withMessageEndingWith("See " + file + " for every violation")
+                .satisfies(e -> assertThat(e.getMessage().lines().filter(l -> l.startsWith("  " + SCANNED_PACKAGE)))
+                        .hasSize(1));
+    }
+
+    @Test
+    void sarifReportShouldContainEveryViolation() throws IOException {
+        var file = dir.resolve("secured.sarif");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .reportingTo(ViolationReport.sarif(file))
+                        .annotatedWith(Stereotype.class)
+                        .allHaveAnnotation(Secured.class))
+                .withMessageEndingWith("See " + file + " for every violation");
+
+        assertThat(Files.readString(file))
+                .startsWith("{\"version\":\"2.1.0\",")
+                .contains("\"shortDescription\":{\"text\":\"Expecting all classes in " + SCANNED_PACKAGE
+                          + " annotated with Stereotype to have annotation of type Secured\"}")
+                .contains("\"fullyQualifiedName\":\"" + ScannedElements.UnsecuredStereotype.class.getName() + "\"")
+                .endsWith("]}]}\n");
+    }
+
+    @Test
+    void junitXmlReportShouldBeWellFormedAndContainEveryViolation() throws Exception {
+        var file = dir.resolve("secured.xml");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .reportingTo(ViolationReport.junitXml(file))
+                        .filteredOn(c -> c.getSimpleName().endsWith("Stereotype"), "named *Stereotype")
+                        .noneHaveAnnotation(Secured.class));
+
+        var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+
+        assertThat(document.getDocumentElement().getTagName()).isEqualTo("testsuite");
+        assertThat(document.getDocumentElement().getAttribute("tests")).isEqualTo("3");
+        assertThat(document.getDocumentElement().getAttribute("failures")).isEqualTo("3");
+        assertThat(document.getElementsByTagName("testcase").getLength()).isEqualTo(3);
+        assertThat(document.getElementsByTagName("failure").getLength()).isEqualTo(3);
+    }
+
+    @Test
+    void junitXmlReportShouldReplaceCharactersNotAllowedInXml() throws Exception {
+        var file = dir.resolve("control.xml");
+
+        try (var run = ViolationReport.junitXml(file).open("classes in com.acme", "to be valid")) {
+            run.add("com.acme.Invalid", "com.acme.Invalid: bell\u0007 tab\t newline\n");
+        }
+
+        var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+
+        assertThat(((Element) document.getElementsByTagName("failure").item(0)).getAttribute("message"))
+                .isEqualTo("com.acme.Invalid: bell\uFFFD tab\t newline\n");
+    }
+
+    @Test
+    void failureShouldListFirstViolationsInSortedOrderWhateverOrderTheyWereFound() {
+        var run = ViolationReport.sarif(dir.resolve("sorted.sarif")).withSummaryLimit(2)
+                .open("classes in com.acme", "to be valid");
+        run.add("com.acme.D", "com.acme.D");
+        run.add("com.acme.B", "com.acme.B");
+        run.add("com.acme.C", "com.acme.C");
+        run.add("com.acme.A", "com.acme.A");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(run::failIfAny)
+                .withMessageStartingWith(String.join(System.lineSeparator(),
+                        "Expecting all classes in com.acme to be valid but 4 did not:",
+                        "  com.acme.A",
+                        "  com.acme.B",
+                        "  ... and 2 more"));
+    }
+
+    @Test
+    void reportShouldRecordReasonsOfRequirementViolations() throws IOException {
+        var file = dir.resolve("role.xml");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .reportingTo(ViolationReport.junitXml(file))
+                        .annotatedWith(Secured.class)
+                        .allHaveAnnotation(Secured.class)
+                        .satisfying(a -> assertThat(a.role()).isEqualTo("admin")));
+
+        assertThat(Files.readString(file))
+                .contains("classname=\"" + ScannedElements.UserSecuredStereotype.class.getName() + "\"")
+                .contains("<failure message=\"" + ScannedElements.UserSecuredStereotype.class.getName() + ": ");
+    }
+
+    @Test
+    void reportShouldLocateClassesThatCannotBeLoadedByName(@TempDir Path classes) throws Exception {
+        var file = dir.resolve("unlinked.xml");
+        var name = UnlinkedElements.Unlinked.class.getName();
+
+        try (var loader = ClassesAssertTest.unlinkedLoader(classes)) {
+            ClassesAssertTest.withContextClassLoader(loader, () -> assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertThatClassesIn(UnlinkedElements.class.getPackageName())
+                            .reportingTo(ViolationReport.junitXml(file))
+                            .noneHaveAnnotation(Deprecated.class)));
+        }
+
+        var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+        var testcase = (Element) document.getElementsByTagName("testcase").item(0);
+
+        assertThat(testcase.getAttribute("classname")).isEqualTo(name);
+        assertThat(((Element) testcase.getElementsByTagName("failure").item(0)).getAttribute("message"))
+                .startsWith(name + " (could not be loaded: ");
+    }
+
+    @Test
+    void reportShouldBeWrittenWithoutFailureWhenThereAreNoViolations() throws IOException {
+        var file = dir.resolve("plain.xml");
+
+        assertThatNoException()
+                .isThrownBy(() -> assertThatClassesIn(SCANNED_PACKAGE)
+                        .reportingTo(ViolationReport.junitXml(file))
+                        .filteredOn(c -> c.getSimpleName().equals("Plain"), "named Plain")
+                        .noneHaveAnnotation(Stereotype.class));
+
+        assertThat(Files.readString(file)).doesNotContain("<testcase").endsWith("</testsuite>\n");
+        assertThat(dir).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    void withSummaryLimitShouldThrowWhenNegative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ViolationReport.sarif(dir.resolve("a.sarif")).withSummaryLimit(-1))
+                .withMessage("Summary limit must not be negative but was -1");
+    }
+
+}
@@ -25,11 +25,14 @@
 package io.blt.test.assertj.testable;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
 /**
  * Holds testable elements for annotation testing
  */
@@ -56,6 +59,10 @@ public final class AnnotatedElements {
 
     public static class TypeWithNoAnnotation {}
 
+    @TargetTypeAnnotation
+    @DifferentTypeAnnotation
+    public static class TypeWithMultipleAnnotations {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     public @interface TargetMethodAnnotation {
@@ -87,6 +94,152 @@ public final class AnnotatedElements {
         public String typeUseAnnotatedField;
     }
 
+    @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface MetaTargetAnnotation {
+        String name() default "meta annotation default name";
+    }
+
+    @Target(ElementType.ANNOTATION_TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @CyclicMetaAnnotationB
+    public @interface CyclicMetaAnnotationA {}
+
+    @Target(ElementType.ANNOTATION_TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @CyclicMetaAnnotationA
+    public @interface CyclicMetaAnnotationB {}
+
+    @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @MetaTargetAnnotation(name = "meta annotation composed name")
+    @CyclicMetaAnnotationA
+    public @interface ComposedAnnotation {}
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ComposedAnnotation
+    public @interface DoublyComposedAnnotation {}
+
+    @DoublyComposedAnnotation
+    public static class TypeWithMetaAnnotation {}
+
+    @MetaTargetAnnotation(name = "meta annotation direct name")
+    @ComposedAnnotation
+    public static class TypeWithDirectAndMetaAnnotation {}
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @MetaTargetAnnotation(name = "meta annotation nearer name")
+    public @interface NearerComposedAnnotation {}
+
+    @DoublyComposedAnnotation
+    @NearerComposedAnnotation
+    public static class TypeWithNearerMetaAnnotation {}
+
+    @TargetTypeAnnotation(name = "type annotation interface name")
+    public interface AnnotatedInterface {
+        @TargetMethodAnnotation(name = "method annotation interface name")
+        void interfaceMethod();
+    }
+
+    @TargetTypeAnnotation(name = "type annotation superclass name")
+    public static class AnnotatedSuperclass {
+        @TargetMethodAnnotation(name = "method annotation superclass name")
+        public void superclassMethod() {}
+
+        @TargetMethodAnnotation
+        private void privateMethod() {}
+    }
+
+    public static class HierarchySubclass extends AnnotatedSuperclass implements AnnotatedInterface {
+        @Override
+        public void interfaceMethod() {}
+
+        @Override
+        public void superclassMethod() {}
+
+        private void privateMethod() {}
+    }
+
+    public static class InterfaceImplementation implements AnnotatedInterface {
+        @Override
+        public void interfaceMethod() {}
+    }
+
+    public interface GenericHandler<T> {
+        @TargetMethodAnnotation(name = "method annotation generic interface name")
+        void handle(T value);
+    }
+
+    public abstract static class AbstractListHandler<E> implements GenericHandler<List<E>> {}
+
+    public static class GenericHandlerImplementation implements GenericHandler<String> {
+        @Override
+        public void handle(String value) {}
+
+        public void handle(Integer value) {}
+    }
+
+    public static class ListHandlerImplementation extends AbstractListHandler<String> {
+        @Override
+        public void handle(List<String> value) {}
+    }
+
+    public static class InterfaceMethodSuperclass {
+        public void interfaceMethod() {}
+    }
+
+    public static class InheritedInterfaceImplementation extends InterfaceMethodSuperclass
+            implements AnnotatedInterface {}
+
+    @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(RepeatedAnnotationContainer.class)
+    public @interface RepeatedAnnotation {
+        String name();
+    }
+
+    @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface RepeatedAnnotationContainer {
+        RepeatedAnnotation[] value();
+    }
+
+    @RepeatedAnnotation(name = "first repeated name")
+    @RepeatedAnnotation(name = "second repeated name")
+    public static class TypeWithRepeatedAnnotations {}
+
+    @RepeatedAnnotation(name = "single repeated name")
+    public static class TypeWithSingleRepeatableAnnotation {}
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface AttributedAnnotation {
+        String name() default "attributed default name";
+        int[] values() default {1, 2};
+        Class<?>[] types() default {};
+        boolean required();
+    }
+
+    @AttributedAnnotation(required = true)
+    public static class TypeWithDefaultAttributes {}
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ConstantAnnotation {
+        Supplier<String> DEFAULT_NAME = () -> "constant default name";
+
+        String name() default "constant default name";
+        long timeout();
+    }
+
+    @ConstantAnnotation(timeout = 30)
+    public static class TypeWithConstantAnnotation {}
+
+    @AttributedAnnotation(name = "attributed custom name", values = {3}, types = String.class, required = false)
+    public static class TypeWithCustomAttributes {}
+
     public static class MethodTests {
 
         @TargetFieldAnnotation
@@ -100,6 +253,13 @@ public final class AnnotatedElements {
 
         public String fieldWithNoAnnotations;
 
+        @RepeatedAnnotation(name = "first repeated name")
+        @RepeatedAnnotation(name = "second repeated name")
+        public String fieldWithRepeatedAnnotations;
+
+        @ComposedAnnotation
+        public String fieldWithMetaAnnotation;
+
         @TargetMethodAnnotation
         public void methodWithDefaultTargetAnnotation() {}
 
@@ -111,6 +271,13 @@ public final class AnnotatedElements {
 
         public void methodWithNoAnnotations() {}
 
+        @RepeatedAnnotation(name = "first repeated name")
+        @RepeatedAnnotation(name = "second repeated name")
+        public void methodWithRepeatedAnnotations() {}
+
+        @ComposedAnnotation
+        public void methodWithMetaAnnotation() {}
+
         private static Method method(String name) {
             try {
                 return MethodTests.class.getMethod(name);
@@ -132,9 +299,13 @@ public final class AnnotatedElements {
     public static Method methodWithValueTargetAnnotation = MethodTests.method("methodWithValueTargetAnnotation");
     public static Method methodWithDifferentAnnotation = MethodTests.method("methodWithDifferentAnnotation");
     public static Method methodWithNoAnnotations = MethodTests.method("methodWithNoAnnotations");
+    public static Method methodWithRepeatedAnnotations = MethodTests.method("methodWithRepeatedAnnotations");
+    public static Method methodWithMetaAnnotation = MethodTests.method("methodWithMetaAnnotation");
     public static Field fieldWithDefaultTargetAnnotation = MethodTests.field("fieldWithDefaultTargetAnnotation");
     public static Field fieldWithValueTargetAnnotation = MethodTests.field("fieldWithValueTargetAnnotation");
     public static Field fieldWithDifferentAnnotation = MethodTests.field("fieldWithDifferentAnnotation");
     public static Field fieldWithNoAnnotations = MethodTests.field("fieldWithNoAnnotations");
+    public static Field fieldWithRepeatedAnnotations = MethodTests.field("fieldWithRepeatedAnnotations");
+    public static Field fieldWithMetaAnnotation = MethodTests.field("fieldWithMetaAnnotation");
 
 }
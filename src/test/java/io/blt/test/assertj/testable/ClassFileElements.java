@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.testable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds testable elements for class file reading
+ */
+public final class ClassFileElements {
+
+    public static final AtomicInteger INITIALIZATIONS = new AtomicInteger();
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface AllValues {
+        byte b() default 0;
+        char c() default 0;
+        short s() default 0;
+        boolean z() default false;
+        int i() default 0;
+        long j() default 0;
+        float f() default 0;
+        double d() default 0;
+        String string() default "";
+        TimeUnit unit() default TimeUnit.SECONDS;
+        Class<?> type() default Object.class;
+        Nested nested() default @Nested;
+        int[] array() default {};
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Nested {
+        String value() default "";
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    public @interface Invisible {}
+
+    @Target(ElementType.TYPE_USE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface TypeUse {}
+
+    @Target({ElementType.FIELD, ElementType.TYPE_USE})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface FieldAndTypeUse {}
+
+    @AllValues(
+            b = 1, c = 'c', s = 2, z = true, i = 3, j = 4L, f = 5.5f, d = 6.5d,
+            string = "é中", unit = TimeUnit.DAYS, type = String[].class,
+            nested = @Nested("nested"), array = {7, 8})
+    @Invisible
+    public static class Annotated {
+
+        static {
+            INITIALIZATIONS.incrementAndGet();
+        }
+
+        @Nested("field")
+        public @TypeUse String field;
+
+        @FieldAndTypeUse
+        public String both;
+
+        public java.util.List<@TypeUse String> nestedTypeUse;
+
+        @Nested("method")
+        public @TypeUse String method() {
+            return null;
+        }
+    }
+
+}
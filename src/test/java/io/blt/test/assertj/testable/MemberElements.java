@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.testable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Holds testable elements for member matrix testing
+ */
+public final class MemberElements {
+
+    @Target({ElementType.METHOD, ElementType.FIELD, ElementType.CONSTRUCTOR})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Transactional {}
+
+    @Target({ElementType.METHOD, ElementType.FIELD, ElementType.CONSTRUCTOR})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Internal {}
+
+    public static class Publisher {
+
+        @Internal
+        private String recipient;
+
+        @Internal
+        private boolean active;
+
+        public static final int LIMIT = 10;
+
+        @Transactional
+        public Publisher() {}
+
+        @Internal
+        Publisher(String recipient) {
+            this.recipient = recipient;
+        }
+
+        @Transactional
+        public void send(String message, int priority) {}
+
+        @Transactional
+        public void send(String message) {}
+
+        public void flush() {}
+
+        public String getRecipient() {
+            return recipient;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        @Internal
+        void reset() {}
+
+        public static Publisher create() {
+            return new Publisher();
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.testable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Constructor;
+
+/**
+ * Holds testable elements for constructor and parameter annotation testing
+ */
+public final class ParameterElements {
+
+    @Target(ElementType.CONSTRUCTOR)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Inject {}
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Valid {}
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface RequestParam {
+        String value() default "";
+    }
+
+    @Target(ElementType.TYPE_USE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface NonNull {}
+
+    @Target({ElementType.CONSTRUCTOR, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Qualifier {
+        String value();
+    }
+
+    @Target({ElementType.CONSTRUCTOR, ElementType.PARAMETER})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Qualifier("primary")
+    public @interface Primary {}
+
+    public interface Sender {
+
+        void send(@Valid String to);
+    }
+
+    public static class Controller {
+
+        @Inject
+        public Controller(@RequestParam("name") String name) {}
+
+        public Controller() {}
+
+        public void send(@RequestParam("to") String to, @Valid @NonNull Object body) {}
+
+        public void validate(@Valid String first, @Valid String second) {}
+    }
+
+    public static class Repository implements Sender {
+
+        @Primary
+        public Repository(@Primary String name) {}
+
+        @Override
+        public void send(String to) {}
+    }
+
+    public class Inner {
+
+        public Inner(@Valid String value) {}
+    }
+
+    public enum Level {
+        LOW("low", 1);
+
+        Level(@Valid String label, @NonNull Integer weight) {}
+    }
+
+    public Constructor<?> localConstructor(String captured) {
+        class Local {
+
+            Local(@Valid String value, @NonNull Object body) {
+                captured.length();
+            }
+        }
+        return Local.class.getDeclaredConstructors()[0];
+    }
+
+    public static Constructor<?> staticLocalConstructor(String captured) {
+        class Local {
+
+            Local(@Valid String value, @NonNull Object body) {
+                captured.length();
+            }
+        }
+        return Local.class.getDeclaredConstructors()[0];
+    }
+
+}
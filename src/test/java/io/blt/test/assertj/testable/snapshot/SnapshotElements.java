@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Michael Cowan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.blt.test.assertj.testable.snapshot;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Holds testable elements for annotation snapshots
+ */
+public final class SnapshotElements {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Snapshotted {
+        String text() default "";
+
+        char letter() default ' ';
+
+        long count() default 0L;
+
+        float ratio() default 0f;
+
+        int[] values() default {};
+    }
+
+    @Snapshotted(text = "quoted \"text\"\n", letter = '\'', count = 3L, ratio = 1.5f, values = {1, 2})
+    public static class Annotated {
+
+        @Snapshotted
+        public String field;
+
+        @Deprecated
+        @Snapshotted(text = "method")
+        public void method(int value) {}
+
+        public void unannotated() {}
+
+    }
+
+}